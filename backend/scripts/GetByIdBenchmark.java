@@ -0,0 +1,98 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Latency and allocation benchmark for GET /api/v1/tasks/{id} against a
+ * running backend.
+ *
+ * Seeds TASKS tasks, warms up, then issues REQUESTS sequential lookups of
+ * random existing ids and reports latency percentiles. Server-side allocation
+ * per request is the growth of the jvm.gc.memory.allocated actuator metric
+ * over the run divided by the request count; the metric only advances at
+ * young collections, so it is accurate to roughly one young generation over
+ * the whole run.
+ *
+ * Usage (from the backend directory, with the backend running):
+ *   java scripts/GetByIdBenchmark.java
+ *   TASKS=1000 REQUESTS=50000 java scripts/GetByIdBenchmark.java
+ */
+public class GetByIdBenchmark {
+
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+    private static final Pattern VALUE = Pattern.compile("\"value\":([0-9.E]+)");
+
+    public static void main(String[] args) throws Exception {
+        String base = "http://localhost:" + env("PORT", 8080);
+        int tasks = env("TASKS", 1000);
+        int requests = env("REQUESTS", 50_000);
+        HttpClient client = HttpClient.newHttpClient();
+
+        long[] ids = new long[tasks];
+        for (int i = 0; i < tasks; i++) {
+            String body = "{\"title\":\"Benchmark task " + i + "\",\"description\":\"Seeded by GetByIdBenchmark\","
+                    + "\"priority\":\"HIGH\",\"dueDate\":\"2030-01-01T09:00:00Z\"}";
+            HttpResponse<String> created = client.send(HttpRequest.newBuilder(URI.create(base + "/api/v1/tasks"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = ID.matcher(created.body());
+            if (!matcher.find()) {
+                throw new IllegalStateException("Unexpected create response: " + created.body());
+            }
+            ids[i] = Long.parseLong(matcher.group(1));
+        }
+
+        run(client, base, ids, requests / 2, null);
+        double allocatedBefore = allocatedBytes(client, base);
+        long[] latencies = new long[requests];
+        run(client, base, ids, requests, latencies);
+        double allocated = allocatedBytes(client, base) - allocatedBefore;
+
+        Arrays.sort(latencies);
+        System.out.printf("GET /tasks/{id}: %d requests, p50 %d us, p90 %d us, p99 %d us, ~%.0f bytes allocated/request%n",
+                requests, percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                allocated / requests);
+    }
+
+    private static void run(HttpClient client, String base, long[] ids, int requests, long[] latencies)
+            throws Exception {
+        for (int i = 0; i < requests; i++) {
+            long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/api/v1/tasks/" + id)).GET().build();
+            long started = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (latencies != null) {
+                latencies[i] = (System.nanoTime() - started) / 1_000;
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + id + " returned " + response.statusCode());
+            }
+        }
+    }
+
+    private static double allocatedBytes(HttpClient client, String base) throws Exception {
+        String body = client.send(HttpRequest.newBuilder(
+                        URI.create(base + "/actuator/metrics/jvm.gc.memory.allocated")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = VALUE.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("jvm.gc.memory.allocated not available: " + body);
+        }
+        return Double.parseDouble(matcher.group(1));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private static int env(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
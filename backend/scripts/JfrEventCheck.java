@@ -0,0 +1,105 @@
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Checks a JFR recording for the Task Manager events and prints a summary.
+ *
+ * Verifies that every TaskOperation event carries an operation, an HTTP
+ * status and a non-negative row count, that every TaskStoreCall event carries
+ * engine and method, and that the operations named on the command line were
+ * recorded. Exits with status 1 if a check fails.
+ *
+ * Usage (from the backend directory):
+ *   java -XX:StartFlightRecording=settings=default,settings=jfr/taskmanager.jfc,filename=recording.jfr \
+ *        -jar target/task-manager-1.0.0-SNAPSHOT.jar
+ *   ... exercise the API, stop the backend ...
+ *   java scripts/JfrEventCheck.java recording.jfr getTasks createTask getTaskById
+ */
+public class JfrEventCheck {
+
+    private static final String OPERATION_EVENT = "com.example.taskmanager.TaskOperation";
+    private static final String STORE_EVENT = "com.example.taskmanager.TaskStoreCall";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: java scripts/JfrEventCheck.java <recording.jfr> [operationId...]");
+            System.exit(2);
+        }
+
+        List<String> failures = new ArrayList<>();
+        TreeMap<String, Stats> operations = new TreeMap<>();
+        TreeMap<String, Stats> storeCalls = new TreeMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(Path.of(args[0]))) {
+            String type = event.getEventType().getName();
+            if (type.equals(OPERATION_EVENT)) {
+                String operation = event.getString("operation");
+                if (operation == null || event.getInt("status") < 100 || event.getLong("rows") < 0) {
+                    failures.add("Incomplete TaskOperation event: " + event);
+                    continue;
+                }
+                operations.computeIfAbsent(operation + " " + event.getInt("status"), key -> new Stats())
+                        .add(event.getDuration().toNanos(), event.getLong("rows"), event.getBoolean("cacheHit"));
+            } else if (type.equals(STORE_EVENT)) {
+                String engine = event.getString("engine");
+                String method = event.getString("method");
+                if (engine == null || method == null) {
+                    failures.add("Incomplete TaskStoreCall event: " + event);
+                    continue;
+                }
+                storeCalls.computeIfAbsent(engine + "." + method, key -> new Stats())
+                        .add(event.getDuration().toNanos(), event.getLong("rows"), event.getBoolean("found"));
+            }
+        }
+
+        Set<String> recorded = new TreeSet<>();
+        operations.keySet().forEach(key -> recorded.add(key.substring(0, key.indexOf(' '))));
+        for (int i = 1; i < args.length; i++) {
+            if (!recorded.contains(args[i])) {
+                failures.add("No TaskOperation event for " + args[i]);
+            }
+        }
+        if (operations.isEmpty()) {
+            failures.add("No TaskOperation events; was the recording started with jfr/taskmanager.jfc?");
+        }
+        if (storeCalls.isEmpty()) {
+            failures.add("No TaskStoreCall events");
+        }
+
+        System.out.println("TaskOperation (operation status: count, avg duration, rows, cache hits)");
+        operations.forEach((key, stats) -> System.out.println("  " + key + ": " + stats));
+        System.out.println("TaskStoreCall (engine.method: count, avg duration, rows, found)");
+        storeCalls.forEach((key, stats) -> System.out.println("  " + key + ": " + stats));
+
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.err.println("FAILED: " + failure));
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+
+    private static final class Stats {
+        long count;
+        long nanos;
+        long rows;
+        long flagged;
+
+        void add(long durationNanos, long eventRows, boolean flag) {
+            count++;
+            nanos += durationNanos;
+            rows += eventRows;
+            flagged += flag ? 1 : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d, %.2f ms, %d, %d", count, nanos / 1e6 / count, rows, flagged);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load harness for a running backend: CLIENTS concurrent clients
+ * issue a mixed workload for SECONDS seconds after a warm-up and the harness
+ * reports throughput and latency percentiles.
+ *
+ * The mix per request is 60% GET /tasks?limit=20, 20% GET /tasks/{id},
+ * 10% POST /tasks and 10% PUT /tasks/{id}, over TASKS seeded tasks. Start the
+ * backend with --rate-limit.enabled=false, otherwise the per-client limits
+ * cap the throughput.
+ *
+ * Usage (from the backend directory, with the backend running):
+ *   java scripts/LoadBenchmark.java
+ *   CLIENTS=16 SECONDS=60 java scripts/LoadBenchmark.java
+ */
+public class LoadBenchmark {
+
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String base = "http://localhost:" + env("PORT", 8080) + "/api/v1/tasks";
+        int clients = env("CLIENTS", 8);
+        int seconds = env("SECONDS", 30);
+        int tasks = env("TASKS", 500);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        long[] ids = new long[tasks];
+        for (int i = 0; i < tasks; i++) {
+            ids[i] = create(client, base, i);
+        }
+
+        run(client, base, ids, clients, Math.max(5, seconds / 3), null);
+        long[][] latencies = new long[clients][];
+        long elapsed = run(client, base, ids, clients, seconds, latencies);
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%d clients, %d s: %d requests, %.0f req/s, p50 %d us, p90 %d us, p99 %d us%n",
+                clients, seconds, all.length, all.length * 1e9 / elapsed,
+                percentile(all, 50), percentile(all, 90), percentile(all, 99));
+    }
+
+    /**
+     * @return the elapsed nanoseconds
+     */
+    private static long run(HttpClient client, String base, long[] ids, int clients, int seconds,
+                            long[][] latencies) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        AtomicLong failures = new AtomicLong();
+        long started = System.nanoTime();
+        long deadline = started + Duration.ofSeconds(seconds).toNanos();
+        Future<?>[] workers = new Future<?>[clients];
+        for (int c = 0; c < clients; c++) {
+            int worker = c;
+            workers[c] = executor.submit(() -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long requestStarted = System.nanoTime();
+                    try {
+                        int status = request(client, base, ids);
+                        if (status >= 400) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = (System.nanoTime() - requestStarted) / 1_000;
+                }
+                if (latencies != null) {
+                    latencies[worker] = Arrays.copyOf(samples, count);
+                }
+                return null;
+            });
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        if (failures.get() > 0) {
+            System.out.println(failures.get() + " requests failed");
+        }
+        return elapsed;
+    }
+
+    private static int request(HttpClient client, String base, long[] ids) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = ids[random.nextInt(ids.length)];
+        int choice = random.nextInt(10);
+        HttpRequest.Builder request;
+        if (choice < 6) {
+            request = HttpRequest.newBuilder(URI.create(base + "?limit=20")).GET();
+        } else if (choice < 8) {
+            request = HttpRequest.newBuilder(URI.create(base + "/" + id)).GET();
+        } else if (choice < 9) {
+            request = HttpRequest.newBuilder(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body(random.nextInt(1_000_000), false)));
+        } else {
+            request = HttpRequest.newBuilder(URI.create(base + "/" + id))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body(id, random.nextBoolean())));
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static long create(HttpClient client, String base, int i) throws Exception {
+        HttpResponse<String> created = client.send(HttpRequest.newBuilder(URI.create(base))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(i, false)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ID.matcher(created.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected create response: " + created.body());
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static String body(long n, boolean completed) {
+        return "{\"title\":\"Load task " + n + "\",\"description\":\"Created by LoadBenchmark\","
+                + "\"completed\":" + completed + ",\"priority\":\"MEDIUM\",\"dueDate\":\"2030-01-01T09:00:00Z\"}";
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private static int env(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
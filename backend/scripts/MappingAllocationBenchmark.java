@@ -0,0 +1,94 @@
+import com.example.taskmanager.controller.TaskMapper;
+import com.example.taskmanager.entity.TaskEntity;
+import com.example.taskmanager.generated.model.Task;
+import com.example.taskmanager.generated.model.TaskCreate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.mapstruct.factory.Mappers;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allocation benchmark for the request/response mapping path: bytes allocated
+ * per operation, measured with the per-thread allocation counter.
+ *
+ * - create: parse a TaskCreate JSON body and map it to a TaskEntity
+ * - map: map 100 TaskEntity rows to Task DTOs
+ * - list: map 100 rows and serialize them to JSON
+ *
+ * Usage (from the backend directory):
+ *   ./mvnw compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ *   java -cp "target/classes:$(cat target/classpath.txt)" scripts/MappingAllocationBenchmark.java
+ */
+public class MappingAllocationBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int CREATE_ITERATIONS = 200_000;
+    private static final int LIST_ITERATIONS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        TaskMapper mapper = Mappers.getMapper(TaskMapper.class);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ObjectReader reader = objectMapper.readerFor(TaskCreate.class);
+        ObjectWriter writer = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
+
+        byte[] body = ("{\"title\":\"Write report\",\"description\":\"Quarterly numbers\",\"completed\":false,"
+                + "\"priority\":\"HIGH\",\"dueDate\":\"2026-11-01T12:00:00Z\"}").getBytes(StandardCharsets.UTF_8);
+        List<TaskEntity> rows = new ArrayList<>();
+        OffsetDateTime now = OffsetDateTime.now();
+        for (long id = 1; id <= 100; id++) {
+            rows.add(TaskEntity.builder()
+                    .id(id)
+                    .title("Task " + id)
+                    .description("Description " + id)
+                    .completed(id % 2 == 0)
+                    .priority(TaskEntity.Priority.values()[(int) (id % 3)])
+                    .dueDate(now)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        long sink = 0;
+        for (int round = 1; round <= ROUNDS; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < CREATE_ITERATIONS; i++) {
+                sink += mapper.toEntity((TaskCreate) reader.readValue(body)).getTitle().length();
+            }
+            long create = (threads.getCurrentThreadAllocatedBytes() - before) / CREATE_ITERATIONS;
+
+            before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < LIST_ITERATIONS; i++) {
+                sink += toDtos(mapper, rows).size();
+            }
+            long map = (threads.getCurrentThreadAllocatedBytes() - before) / LIST_ITERATIONS;
+
+            before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < LIST_ITERATIONS; i++) {
+                sink += writer.writeValueAsBytes(toDtos(mapper, rows)).length;
+            }
+            long list = (threads.getCurrentThreadAllocatedBytes() - before) / LIST_ITERATIONS;
+
+            System.out.printf("round %d: create %d B/op, map 100 tasks %d B/op, map+serialize 100 tasks %d B/op%n",
+                    round, create, map, list);
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static List<Task> toDtos(TaskMapper mapper, List<TaskEntity> rows) {
+        List<Task> dtos = new ArrayList<>(rows.size());
+        for (TaskEntity row : rows) {
+            dtos.add(mapper.toDto(row));
+        }
+        return dtos;
+    }
+}
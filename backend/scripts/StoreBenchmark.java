@@ -0,0 +1,117 @@
+import com.example.taskmanager.entity.TaskEntity;
+import com.example.taskmanager.repository.memory.InMemoryTaskStore;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Memory per task and findById latency of the in-memory storage engine
+ * (task.store=memory), in process, against a HashMap of TaskEntity objects
+ * as the baseline of keeping the same tasks as entities.
+ *
+ * Memory is the growth of the used heap after loading TASKS tasks, measured
+ * after repeated full collections, divided by the task count. Latency is
+ * measured over LOOKUPS lookups of random existing ids after a warm-up and
+ * reported as percentiles; each timed lookup includes materializing the
+ * TaskEntity the engine returns.
+ *
+ * Usage (from the backend directory, after ./mvnw compile):
+ *   java -cp target/classes scripts/StoreBenchmark.java
+ *   TASKS=1000000 LOOKUPS=2000000 java -Xmx2g -cp target/classes scripts/StoreBenchmark.java
+ */
+public class StoreBenchmark {
+
+    private static final int WARMUP_LOOKUPS = 500_000;
+
+    public static void main(String[] args) {
+        int tasks = env("TASKS", 200_000);
+        int lookups = env("LOOKUPS", 1_000_000);
+
+        long before = usedHeap();
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        for (int i = 0; i < tasks; i++) {
+            store.save(task(i));
+        }
+        long storeBytes = usedHeap() - before;
+
+        before = usedHeap();
+        Map<Long, TaskEntity> entities = new HashMap<>();
+        for (int i = 0; i < tasks; i++) {
+            TaskEntity task = task(i);
+            task.setId((long) i + 1);
+            entities.put(task.getId(), task);
+        }
+        long entityBytes = usedHeap() - before;
+
+        System.out.printf("%d tasks%n", tasks);
+        System.out.printf("memory:  engine %d bytes per task, HashMap<Long, TaskEntity> %d bytes per task%n",
+                storeBytes / tasks, entityBytes / tasks);
+        System.out.printf("findById engine:  %s%n", latencies(lookups, tasks, id -> store.findById(id)));
+        System.out.printf("HashMap get:      %s%n",
+                latencies(lookups, tasks, id -> Optional.ofNullable(entities.get(id))));
+    }
+
+    private static TaskEntity task(int i) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        return TaskEntity.builder()
+                .title("Benchmark task " + i)
+                .description(i % 4 == 0 ? "Seeded by StoreBenchmark" : null)
+                .completed(i % 3 == 0)
+                .priority(TaskEntity.Priority.values()[i % 3])
+                .dueDate(now.plusDays(i % 90))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private interface Lookup {
+        Optional<TaskEntity> find(long id);
+    }
+
+    private static String latencies(int lookups, int tasks, Lookup lookup) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long found = 0;
+        for (int i = 0; i < WARMUP_LOOKUPS; i++) {
+            found += lookup.find(random.nextLong(1, tasks + 1)).isPresent() ? 1 : 0;
+        }
+        long[] nanos = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            long id = random.nextLong(1, tasks + 1);
+            long started = System.nanoTime();
+            found += lookup.find(id).isPresent() ? 1 : 0;
+            nanos[i] = System.nanoTime() - started;
+        }
+        if (found != WARMUP_LOOKUPS + lookups) {
+            throw new IllegalStateException("Lookups missed " + (WARMUP_LOOKUPS + lookups - found) + " tasks");
+        }
+        Arrays.sort(nanos);
+        return String.format("p50 %d ns, p99 %d ns, p99.9 %d ns, max %d ns",
+                nanos[lookups / 2], nanos[(int) (lookups * 0.99)], nanos[(int) (lookups * 0.999)],
+                nanos[lookups - 1]);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // Repeat until the used heap stops shrinking
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+
+    private static int env(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
@@ -0,0 +1,85 @@
+#!/bin/sh
+#
+# Change log check: starts two backends on one H2 file database with
+# task.change-log.enabled=true and checks that a write on either instance
+# shows up in the other's GET /api/v1/tasks (body, ETag and X-Total-Count)
+# within the poll interval, although both cache their lists.
+#
+# Usage (after ./mvnw package):
+#   scripts/change-log-check.sh
+#   POLL_MILLIS=200 PORT_A=9080 PORT_B=9081 scripts/change-log-check.sh
+#
+# The database and the instance logs go to DIR (default target/change-log-check).
+
+set -e
+
+JAR=${JAR:-target/task-manager-1.0.0-SNAPSHOT.jar}
+DIR=${DIR:-target/change-log-check}
+PORT_A=${PORT_A:-8080}
+PORT_B=${PORT_B:-8081}
+POLL_MILLIS=${POLL_MILLIS:-500}
+
+rm -rf "$DIR" && mkdir -p "$DIR"
+URL="jdbc:h2:file:$(cd "$DIR" && pwd)/taskdb;AUTO_SERVER=TRUE"
+PIDS=""
+trap 'kill $PIDS 2>/dev/null' EXIT
+
+# start <name> <port> <ddl-auto>
+start() {
+  java -jar "$JAR" --server.port="$2" --spring.datasource.url="$URL" --spring.jpa.hibernate.ddl-auto="$3" \
+    --spring.jpa.show-sql=false --task.archive.enabled=false --task.escalation.enabled=false \
+    --task.change-log.enabled=true --task.change-log.poll-interval-millis="$POLL_MILLIS" \
+    > "$DIR/$1.log" 2>&1 &
+  PIDS="$PIDS $!"
+  for i in $(seq 1 90); do
+    curl -sf "localhost:$2/actuator/health" > /dev/null 2>&1 && return
+    sleep 1
+  done
+  echo "instance $1 failed to start, see $DIR/$1.log"
+  exit 1
+}
+
+# The first instance creates the schema, the second uses it
+start a "$PORT_A" create
+start b "$PORT_B" none
+
+FAILED=0
+
+# check <description> <port> <query> <expected total> <expected text or ''>
+check() {
+  response=$(curl -sf -D - "localhost:$2/api/v1/tasks?$3")
+  total=$(echo "$response" | tr -d '\r' | awk 'tolower($1) == "x-total-count:" { print $2 }')
+  etag=$(echo "$response" | tr -d '\r' | awk 'tolower($1) == "etag:" { print $2 }')
+  if [ "$total" = "$4" ] && { [ -z "$5" ] || echo "$response" | grep -q "$5"; }; then
+    echo "ok    $1 (X-Total-Count $total, ETag $etag)"
+  else
+    echo "FAIL  $1 (X-Total-Count $total, expected $4)"
+    FAILED=1
+  fi
+}
+
+settle() {
+  sleep "$(awk -v ms="$POLL_MILLIS" 'BEGIN { print ms * 3 / 1000 }')"
+}
+
+# Fill both instances' list caches first
+check "b lists no tasks" "$PORT_B" "" 0 ""
+check "a lists no open tasks" "$PORT_A" "completed=false" 0 ""
+
+id=$(curl -sf -X POST -H "Content-Type: application/json" -d '{"title":"Written on a"}' \
+  "localhost:$PORT_A/api/v1/tasks" | sed 's/.*"id":\([0-9]*\).*/\1/')
+settle
+check "b sees the task created on a" "$PORT_B" "" 1 "Written on a"
+
+curl -sf -o /dev/null -X PUT -H "Content-Type: application/json" -d '{"title":"Completed on b","completed":true}' \
+  "localhost:$PORT_B/api/v1/tasks/$id"
+settle
+check "a sees the update made on b" "$PORT_A" "completed=true" 1 "Completed on b"
+check "a no longer lists it as open" "$PORT_A" "completed=false" 0 ""
+
+curl -sf -o /dev/null -X DELETE "localhost:$PORT_B/api/v1/tasks/$id"
+settle
+check "a sees the delete made on b" "$PORT_A" "" 0 ""
+check "b agrees" "$PORT_B" "" 0 ""
+
+exit $FAILED
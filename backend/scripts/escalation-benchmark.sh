@@ -0,0 +1,108 @@
+#!/bin/sh
+#
+# Escalation benchmark: seeds ROWS tasks into a file-based H2 database, starts
+# the backend on it and reports the rate of the first escalation pass, plus
+# GET /api/v1/tasks/{id} latency (mean and p95) sampled after warming up and
+# before the pass, continuously while it runs, and after it.
+#
+# Usage (from the backend directory, after ./mvnw package -DskipTests):
+#   scripts/escalation-benchmark.sh
+#   ROWS=10000000 DUTY_CYCLE=1 scripts/escalation-benchmark.sh   # raw throughput
+#   PARALLELISM=4 CHUNK_SIZE=10000 DUTY_CYCLE=0.25 scripts/escalation-benchmark.sh
+#
+# Due dates are spread over the next 400 hours, so about 6% of the open
+# tasks become HIGH and 12% MEDIUM. The database lives in DIR (default
+# target/escalation-benchmark) and is recreated on every run.
+
+set -e
+
+ROWS=${ROWS:-1000000}
+PARALLELISM=${PARALLELISM:-2}
+CHUNK_SIZE=${CHUNK_SIZE:-1000}
+DUTY_CYCLE=${DUTY_CYCLE:-0.05}
+# Seconds from startup to the first pass, for warm-up and the idle baseline
+DELAY=${DELAY:-90}
+PORT=${PORT:-8080}
+DIR=${DIR:-target/escalation-benchmark}
+JAR=target/task-manager-1.0.0-SNAPSHOT.jar
+
+cd "$(dirname "$0")/.."
+
+H2_JAR=$(find "${HOME}/.m2/repository/com/h2database/h2" -name 'h2-*.jar' | sort | tail -1)
+URL="jdbc:h2:file:$(pwd)/$DIR/taskdb"
+
+start_backend() {
+  java -jar "$JAR" --server.port="$PORT" --spring.datasource.url="$URL" \
+    --spring.jpa.show-sql=false --task.archive.enabled=false --rate-limit.enabled=false "$@" > "$DIR/backend.log" 2>&1 &
+  PID=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    kill -0 "$PID" 2> /dev/null || { tail -20 "$DIR/backend.log"; exit 1; }
+    sleep 1
+  done
+}
+
+stop_backend() {
+  kill "$PID"
+  wait "$PID" || true
+}
+
+# Appends COUNT request latencies in ms to the file $1
+sample_latency() {
+  awk -v n="${2:-50}" -v rows="$ROWS" -v seed="$(od -An -N4 -tu4 /dev/urandom)" \
+    'BEGIN { srand(seed); for (i = 0; i < n; i++) print int(rand() * rows) + 1 }' |
+  while read -r id; do
+    curl -sf -o /dev/null -w '%{time_total}\n' "http://localhost:$PORT/api/v1/tasks/$id"
+  done | awk '{ printf "%.3f\n", $1 * 1000 }' >> "$1"
+}
+
+latency_stats() {
+  sort -n "$1" | awk '{ v[NR] = $1; total += $1 }
+    END { printf "%.2f ms mean, %.2f ms p95 (%d requests)", total / NR, v[int(NR * 0.95) + 0], NR }'
+}
+
+rm -rf "$DIR"
+mkdir -p "$DIR"
+
+echo "creating schema"
+start_backend --spring.jpa.hibernate.ddl-auto=create --task.escalation.enabled=false
+stop_backend
+
+echo "seeding $ROWS tasks"
+seed_start=$(date +%s)
+# One INSERT (and commit) per SEED_BATCH rows; a single statement for millions
+# of rows makes H2 keep the whole transaction's undo log on disk
+SEED_BATCH=500000
+: > "$DIR/seed.sql"
+from=1
+while [ "$from" -le "$ROWS" ]; do
+  to=$(( from + SEED_BATCH - 1 < ROWS ? from + SEED_BATCH - 1 : ROWS ))
+  cat >> "$DIR/seed.sql" <<SQL
+INSERT INTO tasks (id, title, completed, priority, due_date, created_at, updated_at)
+SELECT X, CONCAT('Task ', X), MOD(X, 5) = 0, 1,
+       DATEADD(HOUR, MOD(X, 400), CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM SYSTEM_RANGE($from, $to);
+SQL
+  from=$(( to + 1 ))
+done
+echo "ALTER SEQUENCE tasks_seq RESTART WITH $(( ROWS + 1 ));" >> "$DIR/seed.sql"
+java -cp "$H2_JAR" org.h2.tools.RunScript -url "$URL" -user sa -script "$DIR/seed.sql"
+echo "seeded in $(( $(date +%s) - seed_start )) s"
+
+started=$(date +%s)
+start_backend --spring.jpa.hibernate.ddl-auto=none --task.escalation.interval-seconds="$DELAY" \
+  --task.escalation.parallelism="$PARALLELISM" --task.escalation.chunk-size="$CHUNK_SIZE" \
+  --task.escalation.duty-cycle="$DUTY_CYCLE"
+rm -f "$DIR"/latency-*
+sample_latency "$DIR/latency-warmup" 1000
+sample_latency "$DIR/latency-idle" 100
+[ "$(( $(date +%s) - started ))" -lt "$DELAY" ] || echo "warning: the pass may have started during the baseline"
+sleep $(( started + DELAY + 1 - $(date +%s) > 0 ? started + DELAY + 1 - $(date +%s) : 0 ))
+until grep -q "Escalation pass" "$DIR/backend.log"; do
+  sample_latency "$DIR/latency-during" 10
+done
+grep "Escalation pass" "$DIR/backend.log" | head -1 | sed "s/.*TaskEscalator *: //"
+sample_latency "$DIR/latency-after" 100
+echo "GET by id before the pass: $(latency_stats "$DIR/latency-idle")"
+echo "GET by id during the pass: $(latency_stats "$DIR/latency-during")"
+echo "GET by id after the pass:  $(latency_stats "$DIR/latency-after")"
+stop_backend
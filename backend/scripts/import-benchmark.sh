@@ -0,0 +1,40 @@
+#!/bin/sh
+#
+# Import benchmark: streams ROWS generated tasks to POST /api/v1/tasks/import
+# as NDJSON and reports the import rate.
+#
+# Usage (against a running backend):
+#   scripts/import-benchmark.sh
+#   ROWS=1000000 INVALID_EVERY=1000 scripts/import-benchmark.sh
+#
+# INVALID_EVERY (default 0, off) makes every Nth line fail validation so the
+# error path is measured too. Start the backend with
+# --spring.jpa.show-sql=false, otherwise logging every INSERT dominates.
+
+set -e
+
+ROWS=${ROWS:-100000}
+INVALID_EVERY=${INVALID_EVERY:-0}
+PORT=${PORT:-8080}
+URL="http://localhost:$PORT/api/v1/tasks/import?maxErrors=10"
+
+generate() {
+  awk -v rows="$ROWS" -v invalid="$INVALID_EVERY" 'BEGIN {
+    split("LOW MEDIUM HIGH", priorities, " ")
+    for (i = 1; i <= rows; i++) {
+      if (invalid > 0 && i % invalid == 0) {
+        printf "{\"title\":\"\",\"priority\":\"%s\"}\n", priorities[i % 3 + 1]
+      } else {
+        printf "{\"title\":\"Imported task %d\",\"description\":\"Row %d of the import benchmark\",\"priority\":\"%s\",\"dueDate\":\"2030-01-%02dT09:00:00Z\"}\n", i, i, priorities[i % 3 + 1], i % 28 + 1
+      }
+    }
+  }'
+}
+
+start=$(date +%s%3N)
+generate | curl -sf -X POST -H "Content-Type: application/x-ndjson" \
+  -H "Transfer-Encoding: chunked" --data-binary @- "$URL"
+echo
+elapsed=$(( $(date +%s%3N) - start ))
+
+echo "imported $ROWS lines in ${elapsed} ms ($(( ROWS * 1000 / (elapsed > 0 ? elapsed : 1) )) rows/s)"
@@ -0,0 +1,53 @@
+#!/bin/sh
+#
+# Sparse fieldset benchmark: compares full GET /api/v1/tasks responses with
+# fields=id,title,completed,priority and reports the response size, the
+# average request time and the average SQL time (from Server-Timing) of each.
+#
+# Usage (against a running backend started with
+# --request-phases.sample-rate=1 --spring.jpa.show-sql=false):
+#   scripts/sparse-fields-benchmark.sh
+#   SEED=0 REQUESTS=500 QUERY='limit=100&completed=false' scripts/sparse-fields-benchmark.sh
+#
+# SEED tasks (default 20000) with 1000-character descriptions are imported
+# first; set SEED=0 to reuse the tasks already there.
+
+set -e
+
+SEED=${SEED:-20000}
+REQUESTS=${REQUESTS:-200}
+QUERY=${QUERY:-limit=100&sort=-priority,dueDate}
+FIELDS=${FIELDS:-id,title,completed,priority}
+PORT=${PORT:-8080}
+BASE="http://localhost:$PORT/api/v1/tasks"
+
+if [ "$SEED" -gt 0 ]; then
+  awk -v rows="$SEED" 'BEGIN {
+    split("LOW MEDIUM HIGH", priorities, " ")
+    description = sprintf("%1000s", "")
+    gsub(/ /, "x", description)
+    for (i = 1; i <= rows; i++) {
+      printf "{\"title\":\"Benchmark task %d\",\"description\":\"%s\",\"priority\":\"%s\",\"dueDate\":\"2030-01-%02dT09:00:00Z\"}\n", i, description, priorities[i % 3 + 1], i % 28 + 1
+    }
+  }' | curl -sf -o /dev/null -X POST -H "Content-Type: application/x-ndjson" --data-binary @- "$BASE/import?maxErrors=0"
+  echo "imported $SEED tasks"
+fi
+
+# Prints bytes per response, average total ms and average SQL ms
+measure() {
+  for i in $(seq 1 "$REQUESTS"); do
+    curl -sf -o /dev/null -D - -w 'size %{size_download} time %{time_total}\n' "$BASE?$1"
+  done | awk '
+    tolower($1) == "server-timing:" && match($0, /sql;[^,]*dur=[0-9.]+/) {
+      entry = substr($0, RSTART, RLENGTH); sub(/.*dur=/, "", entry); sql += entry; timed++
+    }
+    $1 == "size" { size = $2; total += $4; n++ }
+    END { printf "%d bytes, %.2f ms per request, %.2f ms SQL\n", size, total * 1000 / n, timed ? sql / timed : 0 }'
+}
+
+# Warm up both paths
+REQUESTS=20 measure "$QUERY" > /dev/null
+REQUESTS=20 measure "$QUERY&fields=$FIELDS" > /dev/null
+
+echo "full:   $(measure "$QUERY")"
+echo "sparse: $(measure "$QUERY&fields=$FIELDS")"
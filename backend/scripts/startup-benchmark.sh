@@ -0,0 +1,69 @@
+#!/bin/sh
+#
+# Startup benchmark: time from JVM launch to the first successful
+# GET /api/v1/tasks.
+#
+# Usage (from the backend directory):
+#   ./mvnw package -DskipTests && scripts/startup-benchmark.sh
+#   ./mvnw -Pfast-startup package -DskipTests && scripts/startup-benchmark.sh fast
+#
+# RUNS (default 5) controls how many cold starts are measured.
+
+set -e
+
+MODE=${1:-default}
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+URL="http://localhost:$PORT/api/v1/tasks"
+
+cd "$(dirname "$0")/.."
+
+case "$MODE" in
+  default)
+    set -- java -jar target/task-manager-1.0.0-SNAPSHOT.jar
+    ;;
+  fast)
+    if [ ! -f target/fast-startup/application.jsa ]; then
+      echo "target/fast-startup/application.jsa not found, build with -Pfast-startup first" >&2
+      exit 1
+    fi
+    cd target/fast-startup
+    set -- java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+      -Dspring.profiles.active=fast-startup \
+      -cp "application.jar:BOOT-INF/lib/*" com.example.taskmanager.TaskManagerApplication
+    ;;
+  *)
+    echo "Usage: $0 [default|fast]" >&2
+    exit 1
+    ;;
+esac
+
+now_ms() {
+  date +%s%3N
+}
+
+total=0
+i=1
+while [ "$i" -le "$RUNS" ]; do
+  start=$(now_ms)
+  "$@" --server.port="$PORT" >/dev/null 2>&1 &
+  pid=$!
+
+  until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Application exited before serving requests" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+
+  elapsed=$(( $(now_ms) - start ))
+  echo "run $i: first GET /api/v1/tasks after ${elapsed} ms"
+  total=$(( total + elapsed ))
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  i=$(( i + 1 ))
+done
+
+echo "$MODE: average time to first response $(( total / RUNS )) ms over $RUNS runs"
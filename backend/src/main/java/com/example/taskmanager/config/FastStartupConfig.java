@@ -0,0 +1,33 @@
+package com.example.taskmanager.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * Fast-startup Configuration
+ *
+ * With the fast-startup profile, lazy initialisation is enabled globally so
+ * that SpringDoc, actuator endpoints and other non-critical beans are only
+ * built when first used. The beans on the TasksApi request path (our own
+ * components, the DataSource and the EntityManagerFactory) stay eager, so
+ * the first request after startup is not slowed down by creating them.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    private static final String APPLICATION_PACKAGE = "com.example.taskmanager.";
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerRequestPath() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType.getName().startsWith(APPLICATION_PACKAGE)
+                        || DataSource.class.isAssignableFrom(beanType)
+                        || EntityManagerFactory.class.isAssignableFrom(beanType);
+    }
+}
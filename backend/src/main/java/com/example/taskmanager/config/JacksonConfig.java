@@ -0,0 +1,28 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.generated.model.Task;
+import com.example.taskmanager.web.SparseFieldsAdvice;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson Configuration
+ *
+ * Lets Task responses be narrowed to the properties selected with
+ * {@link SparseFieldsAdvice}; without a selection the default filter
+ * serializes every property. Kept apart from WebConfig, whose interceptors
+ * depend on the ObjectMapper this customizes.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsFilter() {
+        return builder -> builder
+                .mixIn(Task.class, SparseFieldsAdvice.Filtered.class)
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
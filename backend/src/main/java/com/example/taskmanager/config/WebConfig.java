@@ -1,19 +1,49 @@
 package com.example.taskmanager.config;
 
+import com.example.taskmanager.metrics.AllocationInterceptor;
+import com.example.taskmanager.metrics.RequestPhaseFilter;
+import com.example.taskmanager.metrics.RequestPhaseInterceptor;
+import com.example.taskmanager.metrics.StatementBudgetInterceptor;
+import com.example.taskmanager.metrics.TaskOperationEventInterceptor;
+import com.example.taskmanager.service.TaskChangeTracker;
+import com.example.taskmanager.web.ConcurrencyLimitInterceptor;
+import com.example.taskmanager.web.RateLimitFilter;
+import com.example.taskmanager.web.ResponseCacheFilter;
+import com.example.taskmanager.web.StreamingResourceHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * Web Configuration
  *
  * Configures CORS (Cross-Origin Resource Sharing) to allow the frontend
- * to communicate with the backend API from a different origin.
+ * to communicate with the backend API from a different origin, and registers
+ * request phase timing, allocation accounting, SQL statement budgets, JFR
+ * operation events, the rate limiter, the concurrency limiter and the
+ * serialized GET /tasks response cache in front of the API endpoints.
+ * NDJSON request bodies are streamed to the handler instead of being
+ * buffered.
  *
  * Configuration is read from application.properties:
  * - cors.allowed-origins
  * - cors.allowed-methods
+ * - rate-limit.enabled
+ * - response-cache.enabled
+ * - request-phases.sample-rate / request-phases.server-timing-header
+ * - request-allocation.enabled / request-allocation.header
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -24,13 +54,95 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${cors.allowed-methods:GET,POST,PUT,DELETE,OPTIONS}")
     private String allowedMethods;
 
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final RequestPhaseInterceptor requestPhaseInterceptor;
+    private final StatementBudgetInterceptor statementBudgetInterceptor;
+    private final TaskOperationEventInterceptor taskOperationEventInterceptor;
+    private final AllocationInterceptor allocationInterceptor;
+
+    public WebConfig(ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                     RequestPhaseInterceptor requestPhaseInterceptor,
+                     StatementBudgetInterceptor statementBudgetInterceptor,
+                     TaskOperationEventInterceptor taskOperationEventInterceptor,
+                     AllocationInterceptor allocationInterceptor) {
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.requestPhaseInterceptor = requestPhaseInterceptor;
+        this.statementBudgetInterceptor = statementBudgetInterceptor;
+        this.taskOperationEventInterceptor = taskOperationEventInterceptor;
+        this.allocationInterceptor = allocationInterceptor;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/v1/**")
                 .allowedOrigins(allowedOrigins.split(","))
                 .allowedMethods(allowedMethods.split(","))
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "X-Total-Count")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    @Bean
+    public FilterRegistrationBean<RequestPhaseFilter> requestPhaseFilter(
+            MeterRegistry meterRegistry,
+            @Value("${request-phases.sample-rate:0.1}") double sampleRate,
+            @Value("${request-phases.server-timing-header:true}") boolean serverTimingHeader) {
+        FilterRegistrationBean<RequestPhaseFilter> registration = new FilterRegistrationBean<>(
+                new RequestPhaseFilter(meterRegistry, sampleRate, serverTimingHeader));
+        registration.addUrlPatterns("/api/v1/*");
+        // Outermost, so the dispatch phase includes the other filters
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(Environment environment,
+                                                                   ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(environment, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "response-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(Environment environment,
+                                                                           TaskChangeTracker changeTracker,
+                                                                           MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCacheFilter(environment, changeTracker, meterRegistry));
+        registration.addUrlPatterns("/api/v1/tasks");
+        // Behind the rate limiter, so cached responses still count against the client's limit
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Ahead of ResourceHttpMessageConverter, which would read the body into memory
+        converters.add(0, new StreamingResourceHttpMessageConverter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // First in, last out: spans the other interceptors and response serialization
+        registry.addInterceptor(allocationInterceptor)
+                .addPathPatterns("/api/v1/**");
+        registry.addInterceptor(requestPhaseInterceptor)
+                .addPathPatterns("/api/v1/**");
+        // Imports hold a slot for minutes, which would drag the write limit down; they are
+        // rate limited instead (rate-limit.operations.importTasks)
+        registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/api/v1/**")
+                .excludePathPatterns("/api/v1/tasks/import");
+        registry.addInterceptor(statementBudgetInterceptor)
+                .addPathPatterns("/api/v1/**");
+        // After the budget interceptor, so it completes first and sees the statement count
+        registry.addInterceptor(taskOperationEventInterceptor)
+                .addPathPatterns("/api/v1/**");
+    }
 }
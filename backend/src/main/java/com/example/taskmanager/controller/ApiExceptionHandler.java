@@ -0,0 +1,43 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.generated.model.Error;
+import com.example.taskmanager.web.IdempotencyKeyReusedException;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.stream.Collectors;
+
+/**
+ * Maps exceptions raised while handling TasksApi requests to the Error
+ * responses declared in the spec: parameter validation failures (constraints
+ * generated from the spec, such as the sort pattern) and invalid parameter
+ * combinations become 400, and a reused Idempotency-Key becomes 422.
+ */
+@RestControllerAdvice(assignableTypes = TaskController.class)
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Error> handleConstraintViolation(ConstraintViolationException e) {
+        String message = e.getConstraintViolations().stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new Error("INVALID_REQUEST", message));
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Error> handleInvalidRequest(InvalidRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new Error("INVALID_REQUEST", e.getMessage()));
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<Error> handleIdempotencyKeyReused(IdempotencyKeyReusedException e) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(new Error("IDEMPOTENCY_KEY_REUSED", e.getMessage()));
+    }
+}
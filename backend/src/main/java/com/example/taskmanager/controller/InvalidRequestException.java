@@ -0,0 +1,13 @@
+package com.example.taskmanager.controller;
+
+/**
+ * A request whose parameters pass the spec's constraints but are invalid in
+ * combination, such as a due date range that ends before it starts. Mapped
+ * to 400 by {@link ApiExceptionHandler}.
+ */
+class InvalidRequestException extends RuntimeException {
+
+    InvalidRequestException(String message) {
+        super(message);
+    }
+}
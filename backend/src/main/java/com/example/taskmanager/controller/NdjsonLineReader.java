@@ -0,0 +1,80 @@
+package com.example.taskmanager.controller;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits a character stream into lines without ever holding more than one
+ * line (capped at maxChars) in memory. Characters beyond the cap are dropped
+ * and the line is flagged, so one oversized line can't exhaust the heap.
+ */
+final class NdjsonLineReader {
+
+    private final Reader reader;
+    private final int maxChars;
+    private final char[] buffer = new char[16 * 1024];
+    private final StringBuilder line = new StringBuilder(256);
+    private int position;
+    private int limit;
+    private boolean truncated;
+
+    NdjsonLineReader(Reader reader, int maxChars) {
+        this.reader = reader;
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * @return the next line without its terminator, or null at the end of input
+     */
+    String next() throws IOException {
+        line.setLength(0);
+        truncated = false;
+        boolean started = false;
+
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return started ? finish() : null;
+                }
+            }
+            started = true;
+
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position - start);
+            if (position < limit) {
+                position++;
+                return finish();
+            }
+        }
+    }
+
+    /**
+     * @return true if the line last returned by {@link #next()} exceeded maxChars
+     */
+    boolean truncated() {
+        return truncated;
+    }
+
+    private void append(int start, int length) {
+        int room = maxChars - line.length();
+        if (length > room) {
+            truncated = true;
+            length = Math.max(room, 0);
+        }
+        line.append(buffer, start, length);
+    }
+
+    private String finish() {
+        int end = line.length();
+        if (end > 0 && line.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return line.substring(0, end);
+    }
+}
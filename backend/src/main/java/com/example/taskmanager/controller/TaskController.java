@@ -3,12 +3,35 @@
 import com.example.taskmanager.entity.TaskEntity;
 import com.example.taskmanager.generated.api.TasksApi;
 import com.example.taskmanager.generated.model.*;
+import com.example.taskmanager.metrics.RequestPhase;
+import com.example.taskmanager.metrics.RequestPhases;
+import com.example.taskmanager.metrics.TaskOperationEvents;
+import com.example.taskmanager.repository.TaskQuery;
 import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.web.IdempotencyStore;
+import com.example.taskmanager.web.SparseFieldsAdvice;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.stream.Collectors;
 
 /**
@@ -27,84 +50,243 @@
 @RequestMapping("/api/v1")
 public class TaskController implements TasksApi {
 
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final int MAX_DUE_COUNT_DAYS = 366;
+
     private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final IdempotencyStore idempotencyStore;
+    private final TaskImporter taskImporter;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskMapper taskMapper, IdempotencyStore idempotencyStore,
+                          TaskImporter taskImporter) {
         this.taskService = taskService;
+        this.taskMapper = taskMapper;
+        this.idempotencyStore = idempotencyStore;
+        this.taskImporter = taskImporter;
     }
 
     @Override
-    public ResponseEntity<List<Task>> getTasks(Boolean completed, Integer limit) {
-        List<TaskEntity> entities = taskService.getAllTasks(completed, limit);
+    public ResponseEntity<List<Task>> getTasks(Boolean completed, Integer limit, String sort,
+                                               Boolean includeArchived, OffsetDateTime dueFrom,
+                                               OffsetDateTime dueTo, String fields, Boolean exactCount,
+                                               String ifNoneMatch) {
+        if (dueFrom != null && dueTo != null && !dueFrom.isBefore(dueTo)) {
+            throw new InvalidRequestException("dueFrom must be before dueTo");
+        }
+        RequestPhases.mark(RequestPhase.VALIDATE);
+        // One version covers every list: any write changes it, so a match means nothing changed
+        String etag = "W/\"" + taskService.dataVersion() + '"';
+        boolean notModified = etagMatches(ifNoneMatch, etag);
+        if (ifNoneMatch != null) {
+            TaskOperationEvents.cache("etag", notModified);
+        }
+        if (notModified) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        Set<String> selectedFields = parseFields(fields);
+        if (selectedFields != null) {
+            SparseFieldsAdvice.select(selectedFields);
+        }
+        TaskQuery query = new TaskQuery(completed, parseSort(sort), limit, Boolean.TRUE.equals(includeArchived),
+                dueFrom, dueTo, selectedFields);
+        List<TaskEntity> entities = taskService.getAllTasks(query);
+        OptionalLong totalCount = taskService.countTasks(query, Boolean.TRUE.equals(exactCount));
+        RequestPhases.mark(RequestPhase.SERVICE);
         List<Task> tasks = entities.stream()
-                .map(this::mapToDto)
+                .map(taskMapper::toDto)
                 .collect(Collectors.toList());
+        RequestPhases.mark(RequestPhase.MAP);
+        TaskOperationEvents.rows(tasks.size());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache());
+        if (totalCount.isPresent()) {
+            response.header(TOTAL_COUNT_HEADER, Long.toString(totalCount.getAsLong()));
+        }
+        return response.body(tasks);
+    }
 
-        return ResponseEntity.ok(tasks);
+    @Override
+    public ResponseEntity<List<DueDayCount>> getTaskDueCounts(LocalDate dueFrom, LocalDate dueTo, String timeZone,
+                                                              Boolean completed, Boolean includeArchived) {
+        if (!dueFrom.isBefore(dueTo) || dueFrom.plusDays(MAX_DUE_COUNT_DAYS).isBefore(dueTo)) {
+            throw new InvalidRequestException(
+                    "dueTo must be after dueFrom and at most " + MAX_DUE_COUNT_DAYS + " days later");
+        }
+        ZoneId zone;
+        try {
+            zone = ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            throw new InvalidRequestException("Unknown time zone: " + timeZone);
+        }
+        RequestPhases.mark(RequestPhase.VALIDATE);
+        TaskQuery query = new TaskQuery(completed, null, null, Boolean.TRUE.equals(includeArchived),
+                dueFrom.atStartOfDay(zone).toOffsetDateTime(), dueTo.atStartOfDay(zone).toOffsetDateTime());
+        SortedMap<LocalDate, Long> counts = taskService.countTasksByDueDay(query, zone);
+        RequestPhases.mark(RequestPhase.SERVICE);
+        List<DueDayCount> days = new ArrayList<>(counts.size());
+        counts.forEach((day, count) -> days.add(new DueDayCount(day, count)));
+        RequestPhases.mark(RequestPhase.MAP);
+        TaskOperationEvents.rows(days.size());
+        return ResponseEntity.ok(days);
     }
 
     @Override
     public ResponseEntity<Task> getTaskById(Long id) {
-        return taskService.getTaskById(id)
-                .map(entity -> ResponseEntity.ok(mapToDto(entity)))
+        RequestPhases.mark(RequestPhase.VALIDATE);
+        Optional<TaskEntity> entity = taskService.getTaskById(id);
+        RequestPhases.mark(RequestPhase.SERVICE);
+        TaskOperationEvents.rows(entity.isPresent() ? 1 : 0);
+        return entity
+                .map(found -> ResponseEntity.ok(mapDtoTimed(found)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Duplicate ids are dropped before the lookup; the response keeps the
+     * order in which the ids were first requested.
+     */
     @Override
-    public ResponseEntity<Task> createTask(TaskCreate taskCreate) {
-        TaskEntity entity = mapToEntity(taskCreate);
+    public ResponseEntity<TaskBatchGetResult> batchGetTasks(TaskBatchGetRequest request) {
+        Set<Long> ids = new LinkedHashSet<>(request.ids());
+        if (ids.contains(null)) {
+            throw new InvalidRequestException("ids must not contain null");
+        }
+        RequestPhases.mark(RequestPhase.VALIDATE);
+        Map<Long, TaskEntity> found = taskService.getTasksByIds(ids);
+        RequestPhases.mark(RequestPhase.SERVICE);
+        List<Task> tasks = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            TaskEntity entity = found.get(id);
+            if (entity != null) {
+                tasks.add(taskMapper.toDto(entity));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        RequestPhases.mark(RequestPhase.MAP);
+        TaskOperationEvents.rows(tasks.size());
+        return ResponseEntity.ok(new TaskBatchGetResult(tasks, missingIds));
+    }
+
+    @Override
+    public ResponseEntity<Task> createTask(TaskCreate taskCreate, String idempotencyKey) {
+        RequestPhases.mark(RequestPhase.VALIDATE);
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(create(taskCreate));
+        }
+        IdempotencyStore.Result<Task> result =
+                idempotencyStore.execute(idempotencyKey, taskCreate, () -> create(taskCreate));
+        TaskOperationEvents.cache("idempotency", result.replayed());
+        TaskOperationEvents.rows(1);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.value());
+    }
+
+    private Task create(TaskCreate taskCreate) {
+        TaskEntity entity = taskMapper.toEntity(taskCreate);
+        RequestPhases.mark(RequestPhase.MAP);
         TaskEntity savedEntity = taskService.createTask(entity);
-        return ResponseEntity.status(HttpStatus.CREATED).body(mapToDto(savedEntity));
+        RequestPhases.mark(RequestPhase.SERVICE);
+        TaskOperationEvents.rows(1);
+        return mapDtoTimed(savedEntity);
+    }
+
+    @Override
+    public ResponseEntity<ImportResult> importTasks(Resource body, Integer maxErrors) {
+        RequestPhases.mark(RequestPhase.VALIDATE);
+        try (InputStream input = body.getInputStream()) {
+            ImportResult result = taskImporter.importTasks(input, maxErrors);
+            RequestPhases.mark(RequestPhase.SERVICE);
+            TaskOperationEvents.rows(result.imported());
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import body", e);
+        }
     }
 
     @Override
     public ResponseEntity<Task> updateTask(Long id, TaskUpdate taskUpdate) {
-        TaskEntity entity = mapToEntity(taskUpdate);
-        return taskService.updateTask(id, entity)
-                .map(updated -> ResponseEntity.ok(mapToDto(updated)))
+        RequestPhases.mark(RequestPhase.VALIDATE);
+        TaskEntity entity = taskMapper.toEntity(taskUpdate);
+        RequestPhases.mark(RequestPhase.MAP);
+        Optional<TaskEntity> updatedEntity = taskService.updateTask(id, entity);
+        RequestPhases.mark(RequestPhase.SERVICE);
+        TaskOperationEvents.rows(updatedEntity.isPresent() ? 1 : 0);
+        return updatedEntity
+                .map(updated -> ResponseEntity.ok(mapDtoTimed(updated)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @Override
     public ResponseEntity<Void> deleteTask(Long id) {
+        RequestPhases.mark(RequestPhase.VALIDATE);
         boolean deleted = taskService.deleteTask(id);
+        RequestPhases.mark(RequestPhase.SERVICE);
+        TaskOperationEvents.rows(deleted ? 1 : 0);
         return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
 
-    // Mapping methods
-    private Task mapToDto(TaskEntity entity) {
-        Task dto = new Task();
-        dto.setId(entity.getId());
-        dto.setTitle(entity.getTitle());
-        dto.setDescription(entity.getDescription());
-        dto.setCompleted(entity.getCompleted());
-        dto.setPriority(entity.getPriority() != null ?
-                Task.PriorityEnum.valueOf(entity.getPriority().name()) : null);
-        dto.setDueDate(entity.getDueDate());
-        dto.setCreatedAt(entity.getCreatedAt());
-        dto.setUpdatedAt(entity.getUpdatedAt());
-        return dto;
+    /**
+     * Parse the sort parameter ("priority,-dueDate"); its format has already
+     * been validated against the pattern in the spec, and the keys match
+     * TaskEntity property names.
+     */
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.unsorted();
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String key : sort.split(",")) {
+            orders.add(key.startsWith("-") ? Sort.Order.desc(key.substring(1)) : Sort.Order.asc(key));
+        }
+        return Sort.by(orders);
+    }
+
+    /**
+     * Parse the fields parameter ("title,completed"), already validated
+     * against the pattern in the spec; id is always included.
+     *
+     * @return the selected Task properties, or null for all of them
+     */
+    private static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        selected.addAll(List.of(fields.split(",")));
+        return selected;
     }
 
-    private TaskEntity mapToEntity(TaskCreate dto) {
-        return TaskEntity.builder()
-                .title(dto.getTitle())
-                .description(dto.getDescription())
-                .completed(dto.getCompleted() != null ? dto.getCompleted() : false)
-                .priority(dto.getPriority() != null ?
-                        TaskEntity.Priority.valueOf(dto.getPriority().name()) : TaskEntity.Priority.MEDIUM)
-                .dueDate(dto.getDueDate())
-                .build();
+    /**
+     * Weak comparison against an If-None-Match list, as GET requires.
+     */
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private TaskEntity mapToEntity(TaskUpdate dto) {
-        return TaskEntity.builder()
-                .title(dto.getTitle())
-                .description(dto.getDescription())
-                .completed(dto.getCompleted())
-                .priority(dto.getPriority() != null ?
-                        TaskEntity.Priority.valueOf(dto.getPriority().name()) : null)
-                .dueDate(dto.getDueDate())
-                .build();
+    private Task mapDtoTimed(TaskEntity entity) {
+        Task dto = taskMapper.toDto(entity);
+        RequestPhases.mark(RequestPhase.MAP);
+        return dto;
     }
 }
@@ -0,0 +1,214 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.entity.TaskEntity;
+import com.example.taskmanager.generated.model.ImportError;
+import com.example.taskmanager.generated.model.ImportResult;
+import com.example.taskmanager.generated.model.TaskCreate;
+import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of tasks from an NDJSON stream.
+ *
+ * The body is consumed line by line as it arrives; each line is parsed with
+ * Jackson into a TaskCreate, checked against its bean validation constraints
+ * and mapped to an entity. Valid rows are handed to TaskService in chunks of
+ * task.import.chunk-size, each committed in its own transaction, so memory
+ * stays bounded by one chunk however large the import is. The next chunk is
+ * only read once the previous one has been committed, which pushes back on
+ * the client through TCP flow control when the database is the bottleneck.
+ * A chunk the database rejects is rolled back on its own; its lines are
+ * reported as failed with the cause, and the import goes on with the next
+ * chunk instead of failing the whole request.
+ *
+ * Progress is visible while the import runs through the tasks.import.rows
+ * counter (tagged outcome=imported|failed) and an INFO log line every
+ * task.import.log-interval rows.
+ */
+@Component
+public class TaskImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImporter.class);
+
+    private static final int MAX_LINE_CHARS = 64 * 1024;
+
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final ObjectReader taskCreateReader;
+    private final Validator validator;
+    private final int chunkSize;
+    private final long logInterval;
+    private final Counter importedRows;
+    private final Counter failedRows;
+
+    public TaskImporter(TaskService taskService, TaskMapper taskMapper, ObjectMapper objectMapper,
+                        Validator validator, MeterRegistry meterRegistry,
+                        @Value("${task.import.chunk-size:1000}") int chunkSize,
+                        @Value("${task.import.log-interval:100000}") long logInterval) {
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+        this.taskCreateReader = objectMapper.readerFor(TaskCreate.class);
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.logInterval = logInterval;
+        this.importedRows = Counter.builder("tasks.import.rows")
+                .description("Rows processed by bulk imports")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("tasks.import.rows")
+                .description("Rows processed by bulk imports")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    public ImportResult importTasks(InputStream body, int maxErrors) throws IOException {
+        long started = System.nanoTime();
+        NdjsonLineReader lines = new NdjsonLineReader(new InputStreamReader(body, StandardCharsets.UTF_8),
+                MAX_LINE_CHARS);
+        Chunk chunk = new Chunk(chunkSize);
+        List<ImportError> errors = new ArrayList<>();
+        long lineNumber = 0;
+        long nonBlank = 0;
+        long imported = 0;
+        long failed = 0;
+
+        String line;
+        while ((line = lines.next()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            nonBlank++;
+
+            String error = lines.truncated()
+                    ? "line exceeds " + MAX_LINE_CHARS + " characters"
+                    : parse(line, lineNumber, chunk);
+            if (error != null) {
+                failed++;
+                failedRows.increment();
+                if (errors.size() < maxErrors) {
+                    errors.add(new ImportError(lineNumber, error));
+                }
+            }
+
+            if (chunk.tasks.size() == chunkSize) {
+                int committed = commit(chunk, errors, maxErrors);
+                imported += committed;
+                failed += chunkSize - committed;
+                if (committed > 0 && imported % logInterval < chunkSize) {
+                    log.info("Import progress: {} rows imported, {} failed, {} rows/s", imported, failed,
+                            rate(imported, started));
+                }
+            }
+        }
+        int remaining = chunk.tasks.size();
+        int committed = commit(chunk, errors, maxErrors);
+        imported += committed;
+        failed += remaining - committed;
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Import finished: {} rows imported, {} failed in {} ms ({} rows/s)", imported, failed,
+                durationMillis, rate(imported, started));
+        return new ImportResult(nonBlank, imported, failed, durationMillis, errors);
+    }
+
+    /**
+     * Parse and validate one line, adding the task to the chunk.
+     *
+     * @return null on success, otherwise the reason the line was skipped
+     */
+    private String parse(String line, long lineNumber, Chunk chunk) {
+        TaskCreate dto;
+        try {
+            dto = taskCreateReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return "invalid JSON: " + e.getOriginalMessage();
+        } catch (IOException e) {
+            return "invalid JSON: " + e.getMessage();
+        }
+        if (dto == null) {
+            return "expected a task object";
+        }
+
+        Set<ConstraintViolation<TaskCreate>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        chunk.tasks.add(taskMapper.toEntity(dto));
+        chunk.lineNumbers.add(lineNumber);
+        return null;
+    }
+
+    /**
+     * Commit the chunk in its own transaction and clear it.
+     *
+     * @return the number of imported rows: the chunk size, or 0 if the
+     * database rejected the chunk, in which case its lines are added to errors
+     */
+    private int commit(Chunk chunk, List<ImportError> errors, int maxErrors) {
+        int size = chunk.tasks.size();
+        if (size == 0) {
+            return 0;
+        }
+        try {
+            taskService.importTasks(chunk.tasks);
+            importedRows.increment(size);
+            return size;
+        } catch (DataAccessException | TransactionException e) {
+            String message = "not imported, batch failed to commit: " + e.getMostSpecificCause().getMessage();
+            log.warn("Import batch of lines {} to {} failed to commit", chunk.lineNumbers.get(0),
+                    chunk.lineNumbers.get(size - 1), e);
+            failedRows.increment(size);
+            for (int i = 0; i < size && errors.size() < maxErrors; i++) {
+                errors.add(new ImportError(chunk.lineNumbers.get(i), message));
+            }
+            return 0;
+        } finally {
+            chunk.tasks.clear();
+            chunk.lineNumbers.clear();
+        }
+    }
+
+    /**
+     * Rows waiting to be committed, with the body line each came from.
+     */
+    private static final class Chunk {
+        final List<TaskEntity> tasks;
+        final List<Long> lineNumbers;
+
+        Chunk(int capacity) {
+            this.tasks = new ArrayList<>(capacity);
+            this.lineNumbers = new ArrayList<>(capacity);
+        }
+    }
+
+    private static long rate(long rows, long startedNanos) {
+        long elapsed = Math.max(1, System.nanoTime() - startedNanos);
+        return rows * TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+}
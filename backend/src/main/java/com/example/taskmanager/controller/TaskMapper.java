@@ -0,0 +1,72 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.entity.TaskEntity;
+import com.example.taskmanager.generated.model.Task;
+import com.example.taskmanager.generated.model.TaskCreate;
+import com.example.taskmanager.generated.model.TaskUpdate;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Mapping between the generated API records and TaskEntity.
+ *
+ * The implementation is generated by MapStruct at compile time, so mapping is
+ * plain field copies without reflection. The API and entity priority enums are
+ * separate types with the same constants; they are translated through lookup
+ * tables indexed by ordinal, which are built by name when the class loads so a
+ * constant added to one side but not the other fails at startup.
+ */
+@Mapper(componentModel = "spring")
+public interface TaskMapper {
+
+    Task toDto(TaskEntity entity);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "completed", defaultValue = "false")
+    @Mapping(target = "priority", defaultExpression = "java(TaskEntity.Priority.MEDIUM)")
+    TaskEntity toEntity(TaskCreate dto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    TaskEntity toEntity(TaskUpdate dto);
+
+    default Task.PriorityEnum toDto(TaskEntity.Priority priority) {
+        return priority != null ? PriorityTables.TASK[priority.ordinal()] : null;
+    }
+
+    default TaskEntity.Priority toEntity(TaskCreate.PriorityEnum priority) {
+        return priority != null ? PriorityTables.FROM_CREATE[priority.ordinal()] : null;
+    }
+
+    default TaskEntity.Priority toEntity(TaskUpdate.PriorityEnum priority) {
+        return priority != null ? PriorityTables.FROM_UPDATE[priority.ordinal()] : null;
+    }
+
+    final class PriorityTables {
+
+        static final Task.PriorityEnum[] TASK = table(TaskEntity.Priority.values(),
+                priority -> Task.PriorityEnum.valueOf(priority.name()), Task.PriorityEnum[]::new);
+        static final TaskEntity.Priority[] FROM_CREATE = table(TaskCreate.PriorityEnum.values(),
+                priority -> TaskEntity.Priority.valueOf(priority.name()), TaskEntity.Priority[]::new);
+        static final TaskEntity.Priority[] FROM_UPDATE = table(TaskUpdate.PriorityEnum.values(),
+                priority -> TaskEntity.Priority.valueOf(priority.name()), TaskEntity.Priority[]::new);
+
+        private PriorityTables() {
+        }
+
+        private static <S extends Enum<S>, T> T[] table(S[] sources, Function<S, T> byName,
+                                                        IntFunction<T[]> array) {
+            T[] table = array.apply(sources.length);
+            for (S source : sources) {
+                table[source.ordinal()] = byName.apply(source);
+            }
+            return table;
+        }
+    }
+}
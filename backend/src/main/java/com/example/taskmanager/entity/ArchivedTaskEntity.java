@@ -0,0 +1,76 @@
+package com.example.taskmanager.entity;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+
+/**
+ * A completed task moved out of the hot tasks table by the archiver.
+ *
+ * Same columns as {@link TaskEntity} plus the archive time. Rows are only
+ * written by bulk INSERT ... SELECT statements, so the entity is read-only and
+ * is converted back to a TaskEntity for the API.
+ */
+@Entity
+@Table(name = "tasks_archive", indexes = {
+        // The supported sort orders, as on TaskEntity; archived tasks are all completed, so there is no
+        // completion filter to lead with
+        @Index(name = "idx_tasks_archive_priority_due_desc_created",
+                columnList = "priority, due_date desc, created_at, id"),
+        @Index(name = "idx_tasks_archive_priority_desc_due", columnList = "priority desc, due_date, id"),
+        @Index(name = "idx_tasks_archive_due", columnList = "due_date, id"),
+        @Index(name = "idx_tasks_archive_updated_desc", columnList = "updated_at desc, id")
+})
+public class ArchivedTaskEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(nullable = false)
+    private Boolean completed;
+
+    @Column(columnDefinition = "smallint")
+    @Convert(converter = PriorityRankConverter.class)
+    private TaskEntity.Priority priority;
+
+    @Column(name = "due_date")
+    private OffsetDateTime dueDate;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private OffsetDateTime archivedAt;
+
+    protected ArchivedTaskEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OffsetDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public TaskEntity toTask() {
+        return TaskEntity.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .completed(completed)
+                .priority(priority)
+                .dueDate(dueDate)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanager.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link TaskEntity.Priority} as its rank (LOW=1, MEDIUM=2, HIGH=3)
+ * instead of its name, so the column sorts by urgency and stays compact.
+ */
+@Converter
+public class PriorityRankConverter implements AttributeConverter<TaskEntity.Priority, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(TaskEntity.Priority priority) {
+        return priority != null ? priority.getRank() : null;
+    }
+
+    @Override
+    public TaskEntity.Priority convertToEntityAttribute(Integer rank) {
+        return rank != null ? TaskEntity.Priority.fromRank(rank) : null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.taskmanager.entity;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+
+/**
+ * One committed write to the tasks, appended in the writing transaction so
+ * that other instances sharing the database can invalidate their in-process
+ * caches. The deltas are the changes to the cached task counts (hot tasks,
+ * completed hot tasks, archived tasks); taskId is null for writes to many
+ * tasks at once (imports, archiving, escalation).
+ */
+@Entity
+@Table(name = "task_changes", indexes = {
+        @Index(name = "idx_task_changes_changed_at", columnList = "changed_at")
+})
+public class TaskChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "instance_id", nullable = false, length = 36)
+    private String instanceId;
+
+    @Column(name = "hot_delta", nullable = false)
+    private long hotDelta;
+
+    @Column(name = "hot_completed_delta", nullable = false)
+    private long hotCompletedDelta;
+
+    @Column(name = "archived_delta", nullable = false)
+    private long archivedDelta;
+
+    @Column(name = "changed_at", nullable = false)
+    private OffsetDateTime changedAt;
+
+    protected TaskChange() {
+    }
+
+    public TaskChange(String instanceId, Long taskId, long hotDelta, long hotCompletedDelta, long archivedDelta) {
+        this.instanceId = instanceId;
+        this.taskId = taskId;
+        this.hotDelta = hotDelta;
+        this.hotCompletedDelta = hotCompletedDelta;
+        this.archivedDelta = archivedDelta;
+        this.changedAt = OffsetDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public long getHotDelta() {
+        return hotDelta;
+    }
+
+    public long getHotCompletedDelta() {
+        return hotCompletedDelta;
+    }
+
+    public long getArchivedDelta() {
+        return archivedDelta;
+    }
+
+    public OffsetDateTime getChangedAt() {
+        return changedAt;
+    }
+}
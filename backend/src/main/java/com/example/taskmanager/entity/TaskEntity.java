@@ -4,11 +4,31 @@
 import java.time.OffsetDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // One index per supported sort order (see the sort parameter in api/task-api.yaml), with and
+        // without the completion filter. Each matches the ORDER BY exactly, directions and the id
+        // tie-break included, since H2 neither scans composite indexes backwards nor uses the implicit
+        // row key for ordering; paging then reads the first rows of the index without a sort.
+        @Index(name = "idx_tasks_priority_due_desc_created", columnList = "priority, due_date desc, created_at, id"),
+        @Index(name = "idx_tasks_completed_priority_due_desc_created",
+                columnList = "completed, priority, due_date desc, created_at, id"),
+        @Index(name = "idx_tasks_priority_desc_due", columnList = "priority desc, due_date, id"),
+        @Index(name = "idx_tasks_completed_priority_desc_due", columnList = "completed, priority desc, due_date, id"),
+        // Also behind due date ranges (calendar views) and per-day counts
+        @Index(name = "idx_tasks_due", columnList = "due_date, id"),
+        @Index(name = "idx_tasks_completed_due", columnList = "completed, due_date, id"),
+        @Index(name = "idx_tasks_updated_desc", columnList = "updated_at desc, id"),
+        // Also lets the archiver find old completed tasks without scanning the table
+        @Index(name = "idx_tasks_completed_updated_desc", columnList = "completed, updated_at desc, id"),
+        // The default order (by id) with the completion filter
+        @Index(name = "idx_tasks_completed_id", columnList = "completed, id")
+})
 public class TaskEntity {
 
+    // Sequence ids (pre-allocated in blocks of 50) let Hibernate batch inserts, which IDENTITY prevents
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -20,8 +40,9 @@ public class TaskEntity {
     @Column(nullable = false)
     private Boolean completed;
 
-    @Column(length = 20)
-    @Enumerated(EnumType.STRING)
+    // Stored as the numeric rank so ORDER BY priority follows LOW < MEDIUM < HIGH
+    @Column(columnDefinition = "smallint")
+    @Convert(converter = PriorityRankConverter.class)
     private Priority priority;
 
     @Column(name = "due_date")
@@ -196,6 +217,25 @@ protected void onUpdate() {
 
     // Priority enum
     public enum Priority {
-        LOW, MEDIUM, HIGH
+        LOW(1), MEDIUM(2), HIGH(3);
+
+        private final int rank;
+
+        Priority(int rank) {
+            this.rank = rank;
+        }
+
+        public int getRank() {
+            return rank;
+        }
+
+        public static Priority fromRank(int rank) {
+            for (Priority priority : values()) {
+                if (priority.rank == rank) {
+                    return priority;
+                }
+            }
+            throw new IllegalArgumentException("Unknown priority rank: " + rank);
+        }
     }
 }
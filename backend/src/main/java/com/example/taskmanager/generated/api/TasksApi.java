@@ -5,8 +5,15 @@
  */
 package com.example.taskmanager.generated.api;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import com.example.taskmanager.generated.model.DueDayCount;
 import com.example.taskmanager.generated.model.Error;
+import com.example.taskmanager.generated.model.ImportResult;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import com.example.taskmanager.generated.model.Task;
+import com.example.taskmanager.generated.model.TaskBatchGetRequest;
+import com.example.taskmanager.generated.model.TaskBatchGetResult;
 import com.example.taskmanager.generated.model.TaskCreate;
 import com.example.taskmanager.generated.model.TaskUpdate;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
@@ -44,14 +51,75 @@ default Optional<NativeWebRequest> getRequest() {
         return Optional.empty();
     }
 
+    /**
+     * POST /tasks:batchGet : Get several tasks by ID
+     * Retrieves up to 1000 tasks by ID in one request, including archived tasks. The IDs are resolved with a few IN queries rather than one query per task. Tasks are returned in the order of the requested IDs, each once; requested IDs without a task are listed in missingIds. 
+     *
+     * @param taskBatchGetRequest  (required)
+     * @return The tasks found and the IDs that were not (status code 200)
+     *         or Invalid input (status code 400)
+     *         or Internal server error (status code 500)
+     *         or Client exceeded its rate limit for this operation (status code 429)
+     *         or Server is overloaded and shed the request; retry after the indicated delay (status code 503)
+     */
+    @Operation(
+        operationId = "batchGetTasks",
+        summary = "Get several tasks by ID",
+        description = "Retrieves up to 1000 tasks by ID in one request, including archived tasks. The IDs are resolved with a few IN queries rather than one query per task. Tasks are returned in the order of the requested IDs, each once; requested IDs without a task are listed in missingIds. ",
+        tags = { "tasks" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "The tasks found and the IDs that were not", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = TaskBatchGetResult.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid input", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "429", description = "Client exceeded its rate limit for this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is overloaded and shed the request; retry after the indicated delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/tasks:batchGet",
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    default ResponseEntity<TaskBatchGetResult> batchGetTasks(
+        @Parameter(name = "TaskBatchGetRequest", description = "", required = true) @Valid @RequestBody TaskBatchGetRequest taskBatchGetRequest
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"missingIds\" : [ 42 ], \"tasks\" : [ { \"createdAt\" : \"2024-01-15T10:30:00Z\", \"dueDate\" : \"2024-12-31T23:59:59Z\", \"description\" : \"Write comprehensive documentation for the API-first approach\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"priority\" : \"HIGH\", \"updatedAt\" : \"2024-01-16T14:20:00Z\" }, { \"createdAt\" : \"2024-01-15T10:30:00Z\", \"dueDate\" : \"2024-12-31T23:59:59Z\", \"description\" : \"Write comprehensive documentation for the API-first approach\", \"id\" : 1, \"completed\" : false, \"title\" : \"Complete project documentation\", \"priority\" : \"HIGH\", \"updatedAt\" : \"2024-01-16T14:20:00Z\" } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * POST /tasks : Create a new task
      * Creates a new task with the provided details
      *
      * @param taskCreate  (required)
+     * @param idempotencyKey Client-generated key (e.g. a UUID) that makes retries safe. A request repeating the key of an earlier one from the same client returns the stored response of the first request instead of creating another task; a request arriving while the first is still in progress waits for it. Keys are remembered for a limited time only.  (optional)
      * @return Task created successfully (status code 201)
      *         or Invalid input (status code 400)
+     *         or Idempotency-Key was already used with a different request body (status code 422)
      *         or Internal server error (status code 500)
+     *         or Client exceeded its rate limit for this operation (status code 429)
+     *         or Server is overloaded and shed the request; retry after the indicated delay (status code 503)
      */
     @Operation(
         operationId = "createTask",
@@ -65,8 +133,17 @@ default Optional<NativeWebRequest> getRequest() {
             @ApiResponse(responseCode = "400", description = "Invalid input", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
             }),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used with a different request body", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "429", description = "Client exceeded its rate limit for this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is overloaded and shed the request; retry after the indicated delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
             })
         }
     )
@@ -77,7 +154,8 @@ default Optional<NativeWebRequest> getRequest() {
         consumes = { "application/json" }
     )
     default ResponseEntity<Task> createTask(
-        @Parameter(name = "TaskCreate", description = "", required = true) @Valid @RequestBody TaskCreate taskCreate
+        @Parameter(name = "TaskCreate", description = "", required = true) @Valid @RequestBody TaskCreate taskCreate,
+        @Size(min = 1, max = 255) @Parameter(name = "Idempotency-Key", description = "Client-generated key (e.g. a UUID) that makes retries safe. A request repeating the key of an earlier one from the same client returns the stored response of the first request instead of creating another task; a request arriving while the first is still in progress waits for it. Keys are remembered for a limited time only. ", in = ParameterIn.HEADER) @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -101,6 +179,8 @@ default ResponseEntity<Task> createTask(
      * @return Task deleted successfully (status code 204)
      *         or Task not found (status code 404)
      *         or Internal server error (status code 500)
+     *         or Client exceeded its rate limit for this operation (status code 429)
+     *         or Server is overloaded and shed the request; retry after the indicated delay (status code 503)
      */
     @Operation(
         operationId = "deleteTask",
@@ -114,6 +194,12 @@ default ResponseEntity<Task> createTask(
             }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "429", description = "Client exceeded its rate limit for this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is overloaded and shed the request; retry after the indicated delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
             })
         }
     )
@@ -138,6 +224,8 @@ default ResponseEntity<Void> deleteTask(
      * @return Successful response (status code 200)
      *         or Task not found (status code 404)
      *         or Internal server error (status code 500)
+     *         or Client exceeded its rate limit for this operation (status code 429)
+     *         or Server is overloaded and shed the request; retry after the indicated delay (status code 503)
      */
     @Operation(
         operationId = "getTaskById",
@@ -153,6 +241,12 @@ default ResponseEntity<Void> deleteTask(
             }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "429", description = "Client exceeded its rate limit for this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is overloaded and shed the request; retry after the indicated delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
             })
         }
     )
@@ -178,14 +272,89 @@ default ResponseEntity<Task> getTaskById(
     }
 
 
+    /**
+     * GET /tasks/due-counts : Count tasks per due day
+     * Number of tasks due on each day of a date range, for calendar views. Days are calendar days in the given time zone; days without tasks are left out. The counts come from one aggregated query. 
+     *
+     * @param dueFrom First day of the range (required)
+     * @param dueTo Day after the last day of the range (exclusive); at most 366 days after dueFrom (required)
+     * @param timeZone IANA time zone the days are counted in (optional, default to UTC)
+     * @param completed Filter by completion status (optional)
+     * @param includeArchived Also count completed tasks that have been moved to the archive (optional, default to false)
+     * @return Task counts per day, in date order (status code 200)
+     *         or Invalid query parameters (status code 400)
+     *         or Internal server error (status code 500)
+     *         or Client exceeded its rate limit for this operation (status code 429)
+     *         or Server is overloaded and shed the request; retry after the indicated delay (status code 503)
+     */
+    @Operation(
+        operationId = "getTaskDueCounts",
+        summary = "Count tasks per due day",
+        description = "Number of tasks due on each day of a date range, for calendar views. Days are calendar days in the given time zone; days without tasks are left out. The counts come from one aggregated query. ",
+        tags = { "tasks" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Task counts per day, in date order", content = {
+                @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = DueDayCount.class)))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid query parameters", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "429", description = "Client exceeded its rate limit for this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is overloaded and shed the request; retry after the indicated delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/tasks/due-counts",
+        produces = { "application/json" }
+    )
+    default ResponseEntity<List<DueDayCount>> getTaskDueCounts(
+        @NotNull @Parameter(name = "dueFrom", description = "First day of the range", required = true, in = ParameterIn.QUERY) @Valid @RequestParam(value = "dueFrom", required = true) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+        @NotNull @Parameter(name = "dueTo", description = "Day after the last day of the range (exclusive); at most 366 days after dueFrom", required = true, in = ParameterIn.QUERY) @Valid @RequestParam(value = "dueTo", required = true) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+        @Parameter(name = "timeZone", description = "IANA time zone the days are counted in", in = ParameterIn.QUERY) @Valid @RequestParam(value = "timeZone", required = false, defaultValue = "UTC") String timeZone,
+        @Parameter(name = "completed", description = "Filter by completion status", in = ParameterIn.QUERY) @Valid @RequestParam(value = "completed", required = false) Boolean completed,
+        @Parameter(name = "includeArchived", description = "Also count completed tasks that have been moved to the archive", in = ParameterIn.QUERY) @Valid @RequestParam(value = "includeArchived", required = false, defaultValue = "false") Boolean includeArchived
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "[ { \"date\" : \"2024-03-15T00:00:00.000+00:00\", \"count\" : 4 }, { \"date\" : \"2024-03-15T00:00:00.000+00:00\", \"count\" : 4 } ]";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * GET /tasks : Get all tasks
      * Retrieves a list of all tasks with optional filtering
      *
      * @param completed Filter by completion status (optional)
      * @param limit Maximum number of tasks to return (optional, default to 20)
-     * @return Successful response (status code 200)
+     * @param sort Sort order: comma-separated keys, applied in order, with &#39;-&#39; for descending. Each supported order is backed by an index, so sorted pages never sort the table: priority,-dueDate,createdAt (priority LOW &lt; MEDIUM &lt; HIGH), -priority,dueDate (most urgent first), dueDate and -updatedAt (recently changed first). Missing values sort lowest (first ascending, last descending). Ties are broken by id. Without sort, tasks are returned by id.  (optional)
+     * @param includeArchived Also return completed tasks that have been moved to the archive. Archived tasks are always returned by GET /tasks/{id} and can still be updated or deleted.  (optional, default to false)
+     * @param dueFrom Only tasks due at or after this time; tasks without a due date are excluded (optional)
+     * @param dueTo Only tasks due before this time (exclusive); tasks without a due date are excluded (optional)
+     * @param fields Comma-separated Task properties to return, e.g. for list views that don&#39;t show the description or timestamps; id is always returned. Only the selected columns are read from the database. All properties are returned if omitted.  (optional)
+     * @param exactCount Compute X-Total-Count with a COUNT query instead of taking it from the server&#39;s cached counts, which are kept up to date on writes but may briefly lag behind them. Lists filtered by due date only carry X-Total-Count when this is set.  (optional, default to false)
+     * @param ifNoneMatch ETag of a previously returned list; answered with 304 if no task has changed since (optional)
+     * @return Successful response; with fields, each task has only the selected properties (status code 200)
+     *         or No task has changed since the version given in If-None-Match (status code 304)
+     *         or Invalid query parameters (status code 400)
      *         or Internal server error (status code 500)
+     *         or Client exceeded its rate limit for this operation (status code 429)
+     *         or Server is overloaded and shed the request; retry after the indicated delay (status code 503)
      */
     @Operation(
         operationId = "getTasks",
@@ -193,11 +362,21 @@ default ResponseEntity<Task> getTaskById(
         description = "Retrieves a list of all tasks with optional filtering",
         tags = { "tasks" },
         responses = {
-            @ApiResponse(responseCode = "200", description = "Successful response", content = {
+            @ApiResponse(responseCode = "200", description = "Successful response; with fields, each task has only the selected properties", content = {
                 @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = Task.class)))
             }),
+            @ApiResponse(responseCode = "304", description = "No task has changed since the version given in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid query parameters", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "429", description = "Client exceeded its rate limit for this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is overloaded and shed the request; retry after the indicated delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
             })
         }
     )
@@ -208,7 +387,14 @@ default ResponseEntity<Task> getTaskById(
     )
     default ResponseEntity<List<Task>> getTasks(
         @Parameter(name = "completed", description = "Filter by completion status", in = ParameterIn.QUERY) @Valid @RequestParam(value = "completed", required = false) Boolean completed,
-        @Min(1) @Max(100) @Parameter(name = "limit", description = "Maximum number of tasks to return", in = ParameterIn.QUERY) @Valid @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit
+        @Min(1) @Max(100) @Parameter(name = "limit", description = "Maximum number of tasks to return", in = ParameterIn.QUERY) @Valid @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit,
+        @Pattern(regexp = "^(priority,-dueDate,createdAt|-priority,dueDate|dueDate|-updatedAt)$") @Parameter(name = "sort", description = "Sort order: comma-separated keys, applied in order, with '-' for descending. Each supported order is backed by an index, so sorted pages never sort the table: priority,-dueDate,createdAt (priority LOW < MEDIUM < HIGH), -priority,dueDate (most urgent first), dueDate and -updatedAt (recently changed first). Missing values sort lowest (first ascending, last descending). Ties are broken by id. Without sort, tasks are returned by id. ", in = ParameterIn.QUERY) @Valid @RequestParam(value = "sort", required = false) String sort,
+        @Parameter(name = "includeArchived", description = "Also return completed tasks that have been moved to the archive. Archived tasks are always returned by GET /tasks/{id} and can still be updated or deleted. ", in = ParameterIn.QUERY) @Valid @RequestParam(value = "includeArchived", required = false, defaultValue = "false") Boolean includeArchived,
+        @Parameter(name = "dueFrom", description = "Only tasks due at or after this time; tasks without a due date are excluded", in = ParameterIn.QUERY) @Valid @RequestParam(value = "dueFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueFrom,
+        @Parameter(name = "dueTo", description = "Only tasks due before this time (exclusive); tasks without a due date are excluded", in = ParameterIn.QUERY) @Valid @RequestParam(value = "dueTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueTo,
+        @Pattern(regexp = "^(id|title|description|completed|priority|dueDate|createdAt|updatedAt)(,(id|title|description|completed|priority|dueDate|createdAt|updatedAt))*$") @Parameter(name = "fields", description = "Comma-separated Task properties to return, e.g. for list views that don't show the description or timestamps; id is always returned. Only the selected columns are read from the database. All properties are returned if omitted. ", in = ParameterIn.QUERY) @Valid @RequestParam(value = "fields", required = false) String fields,
+        @Parameter(name = "exactCount", description = "Compute X-Total-Count with a COUNT query instead of taking it from the server's cached counts, which are kept up to date on writes but may briefly lag behind them. Lists filtered by due date only carry X-Total-Count when this is set. ", in = ParameterIn.QUERY) @Valid @RequestParam(value = "exactCount", required = false, defaultValue = "false") Boolean exactCount,
+        @Parameter(name = "If-None-Match", description = "ETag of a previously returned list; answered with 304 if no task has changed since", in = ParameterIn.HEADER) @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -224,6 +410,65 @@ default ResponseEntity<List<Task>> getTasks(
     }
 
 
+    /**
+     * POST /tasks/import : Bulk import tasks
+     * Imports tasks from a newline-delimited JSON body (one TaskCreate object per line). The body is read incrementally; each line is validated on its own, and valid rows are committed in fixed-size batches while the rest of the body is still being read, so batches committed before a failure or an interrupted upload stay committed. Invalid lines are skipped and reported by line number. A batch the database rejects is rolled back on its own and its lines are reported the same way; the import continues with the next batch. 
+     *
+     * @param body  (required)
+     * @param maxErrors Maximum number of line errors listed in the report; further errors are only counted (optional, default to 1000)
+     * @return Import finished; the report lists lines that were skipped (status code 200)
+     *         or Invalid query parameters (status code 400)
+     *         or Internal server error (status code 500)
+     *         or Client exceeded its rate limit for this operation (status code 429)
+     *         or Server is overloaded and shed the request; retry after the indicated delay (status code 503)
+     */
+    @Operation(
+        operationId = "importTasks",
+        summary = "Bulk import tasks",
+        description = "Imports tasks from a newline-delimited JSON body (one TaskCreate object per line). The body is read incrementally; each line is validated on its own, and valid rows are committed in fixed-size batches while the rest of the body is still being read, so batches committed before a failure or an interrupted upload stay committed. Invalid lines are skipped and reported by line number. A batch the database rejects is rolled back on its own and its lines are reported the same way; the import continues with the next batch. ",
+        tags = { "tasks" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Import finished; the report lists lines that were skipped", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ImportResult.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid query parameters", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "429", description = "Client exceeded its rate limit for this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is overloaded and shed the request; retry after the indicated delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/tasks/import",
+        produces = { "application/json" },
+        consumes = { "application/x-ndjson" }
+    )
+    default ResponseEntity<ImportResult> importTasks(
+        @Parameter(name = "body", description = "", required = true) @Valid @RequestBody org.springframework.core.io.Resource body,
+        @Min(0) @Max(10000) @Parameter(name = "maxErrors", description = "Maximum number of line errors listed in the report; further errors are only counted", in = ParameterIn.QUERY) @Valid @RequestParam(value = "maxErrors", required = false, defaultValue = "1000") Integer maxErrors
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"imported\" : 9998, \"durationMillis\" : 850, \"failed\" : 2, \"lines\" : 10000, \"errors\" : [ { \"line\" : 42, \"message\" : \"title: must not be null\" }, { \"line\" : 42, \"message\" : \"title: must not be null\" } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * PUT /tasks/{id} : Update an existing task
      * Updates all fields of an existing task
@@ -234,6 +479,8 @@ default ResponseEntity<List<Task>> getTasks(
      *         or Invalid input (status code 400)
      *         or Task not found (status code 404)
      *         or Internal server error (status code 500)
+     *         or Client exceeded its rate limit for this operation (status code 429)
+     *         or Server is overloaded and shed the request; retry after the indicated delay (status code 503)
      */
     @Operation(
         operationId = "updateTask",
@@ -252,6 +499,12 @@ default ResponseEntity<List<Task>> getTasks(
             }),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "429", description = "Client exceeded its rate limit for this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "Server is overloaded and shed the request; retry after the indicated delay", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = Error.class))
             })
         }
     )
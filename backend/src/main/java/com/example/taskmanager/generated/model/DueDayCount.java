@@ -0,0 +1,38 @@
+package com.example.taskmanager.generated.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * DueDayCount
+ *
+ * @param date Calendar day in the requested time zone
+ * @param count Tasks due on that day
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public record DueDayCount(
+  @NotNull @Valid 
+  @Schema(name = "date", example = "Fri Mar 15 00:00:00 UTC 2024", description = "Calendar day in the requested time zone", requiredMode = Schema.RequiredMode.REQUIRED)
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+  @JsonProperty("date")
+  LocalDate date,
+  @NotNull 
+  @Schema(name = "count", example = "4", description = "Tasks due on that day", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("count")
+  Long count
+) {
+}
+
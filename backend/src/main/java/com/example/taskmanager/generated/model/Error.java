@@ -4,7 +4,6 @@
 import java.util.Objects;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonCreator;
-import org.openapitools.jackson.nullable.JsonNullable;
 import java.time.OffsetDateTime;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
@@ -16,128 +15,33 @@
 
 /**
  * Error
+ *
+ * @param code Error code
+ * @param message Human-readable error message
+ * @param details Additional error details
  */
 
 @Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
-public class Error {
-
-  private String code;
-
-  private String message;
-
-  private String details;
-
-  public Error() {
-    super();
-  }
-
-  /**
-   * Constructor with only required parameters
-   */
-  public Error(String code, String message) {
-    this.code = code;
-    this.message = message;
-  }
-
-  public Error code(String code) {
-    this.code = code;
-    return this;
-  }
-
-  /**
-   * Error code
-   * @return code
-  */
+public record Error(
   @NotNull 
   @Schema(name = "code", example = "TASK_NOT_FOUND", description = "Error code", requiredMode = Schema.RequiredMode.REQUIRED)
   @JsonProperty("code")
-  public String getCode() {
-    return code;
-  }
-
-  public void setCode(String code) {
-    this.code = code;
-  }
-
-  public Error message(String message) {
-    this.message = message;
-    return this;
-  }
-
-  /**
-   * Human-readable error message
-   * @return message
-  */
+  String code,
   @NotNull 
   @Schema(name = "message", example = "Task with ID 123 was not found", description = "Human-readable error message", requiredMode = Schema.RequiredMode.REQUIRED)
   @JsonProperty("message")
-  public String getMessage() {
-    return message;
-  }
-
-  public void setMessage(String message) {
-    this.message = message;
-  }
-
-  public Error details(String details) {
-    this.details = details;
-    return this;
-  }
-
-  /**
-   * Additional error details
-   * @return details
-  */
+  String message,
   
   @Schema(name = "details", example = "The requested resource does not exist", description = "Additional error details", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
   @JsonProperty("details")
-  public String getDetails() {
-    return details;
-  }
-
-  public void setDetails(String details) {
-    this.details = details;
-  }
-
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    Error error = (Error) o;
-    return Objects.equals(this.code, error.code) &&
-        Objects.equals(this.message, error.message) &&
-        Objects.equals(this.details, error.details);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(code, message, details);
-  }
-
-  @Override
-  public String toString() {
-    StringBuilder sb = new StringBuilder();
-    sb.append("class Error {\n");
-    sb.append("    code: ").append(toIndentedString(code)).append("\n");
-    sb.append("    message: ").append(toIndentedString(message)).append("\n");
-    sb.append("    details: ").append(toIndentedString(details)).append("\n");
-    sb.append("}");
-    return sb.toString();
-  }
+  String details
+) {
 
   /**
-   * Convert the given object to string with each line indented by 4 spaces
-   * (except the first line).
+   * Constructor with only required parameters
    */
-  private String toIndentedString(Object o) {
-    if (o == null) {
-      return "null";
-    }
-    return o.toString().replace("\n", "\n    ");
+  public Error(String code, String message) {
+    this(code, message, null);
   }
 }
 
@@ -0,0 +1,35 @@
+package com.example.taskmanager.generated.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * ImportError
+ *
+ * @param line 1-based line number in the request body
+ * @param message Why the line was skipped
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public record ImportError(
+  @NotNull 
+  @Schema(name = "line", example = "42", description = "1-based line number in the request body", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("line")
+  Long line,
+  @NotNull 
+  @Schema(name = "message", example = "title: must not be null", description = "Why the line was skipped", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("message")
+  String message
+) {
+}
+
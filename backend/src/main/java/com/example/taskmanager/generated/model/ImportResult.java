@@ -0,0 +1,54 @@
+package com.example.taskmanager.generated.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.example.taskmanager.generated.model.ImportError;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * ImportResult
+ *
+ * @param lines Non-blank lines read from the body
+ * @param imported Tasks created
+ * @param failed Lines skipped because they were not valid tasks or their batch failed to commit
+ * @param durationMillis Time spent on the import
+ * @param errors Skipped lines, up to maxErrors entries
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public record ImportResult(
+  @NotNull 
+  @Schema(name = "lines", example = "10000", description = "Non-blank lines read from the body", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("lines")
+  Long lines,
+  @NotNull 
+  @Schema(name = "imported", example = "9998", description = "Tasks created", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("imported")
+  Long imported,
+  @NotNull 
+  @Schema(name = "failed", example = "2", description = "Lines skipped because they were not valid tasks or their batch failed to commit", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("failed")
+  Long failed,
+  @NotNull 
+  @Schema(name = "durationMillis", example = "850", description = "Time spent on the import", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("durationMillis")
+  Long durationMillis,
+  @NotNull @Valid 
+  @Schema(name = "errors", description = "Skipped lines, up to maxErrors entries", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("errors")
+  List<@Valid ImportError> errors
+) {
+}
+
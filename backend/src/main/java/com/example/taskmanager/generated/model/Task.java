@@ -7,7 +7,6 @@
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.time.OffsetDateTime;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.openapitools.jackson.nullable.JsonNullable;
 import java.time.OffsetDateTime;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
@@ -19,18 +18,55 @@
 
 /**
  * Task
+ *
+ * @param id Unique identifier for the task
+ * @param title Task title
+ * @param description Detailed description of the task
+ * @param completed Task completion status
+ * @param priority Task priority level
+ * @param dueDate Task due date
+ * @param createdAt Timestamp when the task was created
+ * @param updatedAt Timestamp when the task was last updated
  */
 
 @Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
-public class Task {
-
-  private Long id;
-
-  private String title;
-
-  private String description;
-
-  private Boolean completed;
+public record Task(
+  @NotNull 
+  @Schema(name = "id", example = "1", description = "Unique identifier for the task", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("id")
+  Long id,
+  @NotNull @Size(min = 1, max = 200) 
+  @Schema(name = "title", example = "Complete project documentation", description = "Task title", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("title")
+  String title,
+  @Size(max = 1000) 
+  @Schema(name = "description", example = "Write comprehensive documentation for the API-first approach", description = "Detailed description of the task", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("description")
+  String description,
+  @NotNull 
+  @Schema(name = "completed", example = "false", description = "Task completion status", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("completed")
+  Boolean completed,
+  
+  @Schema(name = "priority", example = "HIGH", description = "Task priority level", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("priority")
+  PriorityEnum priority,
+  @Valid 
+  @Schema(name = "dueDate", example = "2024-12-31T23:59:59Z", description = "Task due date", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  @JsonProperty("dueDate")
+  OffsetDateTime dueDate,
+  @NotNull @Valid 
+  @Schema(name = "createdAt", example = "2024-01-15T10:30Z", description = "Timestamp when the task was created", requiredMode = Schema.RequiredMode.REQUIRED)
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  @JsonProperty("createdAt")
+  OffsetDateTime createdAt,
+  @Valid 
+  @Schema(name = "updatedAt", example = "2024-01-16T14:20Z", description = "Timestamp when the task was last updated", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  @JsonProperty("updatedAt")
+  OffsetDateTime updatedAt
+) {
 
   /**
    * Task priority level
@@ -69,240 +105,12 @@ public static PriorityEnum fromValue(String value) {
     }
   }
 
-  private PriorityEnum priority;
-
-  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-  private OffsetDateTime dueDate;
-
-  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-  private OffsetDateTime createdAt;
-
-  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-  private OffsetDateTime updatedAt;
-
-  public Task() {
-    super();
-  }
 
   /**
    * Constructor with only required parameters
    */
   public Task(Long id, String title, Boolean completed, OffsetDateTime createdAt) {
-    this.id = id;
-    this.title = title;
-    this.completed = completed;
-    this.createdAt = createdAt;
-  }
-
-  public Task id(Long id) {
-    this.id = id;
-    return this;
-  }
-
-  /**
-   * Unique identifier for the task
-   * @return id
-  */
-  @NotNull 
-  @Schema(name = "id", example = "1", description = "Unique identifier for the task", requiredMode = Schema.RequiredMode.REQUIRED)
-  @JsonProperty("id")
-  public Long getId() {
-    return id;
-  }
-
-  public void setId(Long id) {
-    this.id = id;
-  }
-
-  public Task title(String title) {
-    this.title = title;
-    return this;
-  }
-
-  /**
-   * Task title
-   * @return title
-  */
-  @NotNull @Size(min = 1, max = 200) 
-  @Schema(name = "title", example = "Complete project documentation", description = "Task title", requiredMode = Schema.RequiredMode.REQUIRED)
-  @JsonProperty("title")
-  public String getTitle() {
-    return title;
-  }
-
-  public void setTitle(String title) {
-    this.title = title;
-  }
-
-  public Task description(String description) {
-    this.description = description;
-    return this;
-  }
-
-  /**
-   * Detailed description of the task
-   * @return description
-  */
-  @Size(max = 1000) 
-  @Schema(name = "description", example = "Write comprehensive documentation for the API-first approach", description = "Detailed description of the task", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
-  @JsonProperty("description")
-  public String getDescription() {
-    return description;
-  }
-
-  public void setDescription(String description) {
-    this.description = description;
-  }
-
-  public Task completed(Boolean completed) {
-    this.completed = completed;
-    return this;
-  }
-
-  /**
-   * Task completion status
-   * @return completed
-  */
-  @NotNull 
-  @Schema(name = "completed", example = "false", description = "Task completion status", requiredMode = Schema.RequiredMode.REQUIRED)
-  @JsonProperty("completed")
-  public Boolean getCompleted() {
-    return completed;
-  }
-
-  public void setCompleted(Boolean completed) {
-    this.completed = completed;
-  }
-
-  public Task priority(PriorityEnum priority) {
-    this.priority = priority;
-    return this;
-  }
-
-  /**
-   * Task priority level
-   * @return priority
-  */
-  
-  @Schema(name = "priority", example = "HIGH", description = "Task priority level", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
-  @JsonProperty("priority")
-  public PriorityEnum getPriority() {
-    return priority;
-  }
-
-  public void setPriority(PriorityEnum priority) {
-    this.priority = priority;
-  }
-
-  public Task dueDate(OffsetDateTime dueDate) {
-    this.dueDate = dueDate;
-    return this;
-  }
-
-  /**
-   * Task due date
-   * @return dueDate
-  */
-  @Valid 
-  @Schema(name = "dueDate", example = "2024-12-31T23:59:59Z", description = "Task due date", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
-  @JsonProperty("dueDate")
-  public OffsetDateTime getDueDate() {
-    return dueDate;
-  }
-
-  public void setDueDate(OffsetDateTime dueDate) {
-    this.dueDate = dueDate;
-  }
-
-  public Task createdAt(OffsetDateTime createdAt) {
-    this.createdAt = createdAt;
-    return this;
-  }
-
-  /**
-   * Timestamp when the task was created
-   * @return createdAt
-  */
-  @NotNull @Valid 
-  @Schema(name = "createdAt", example = "2024-01-15T10:30Z", description = "Timestamp when the task was created", requiredMode = Schema.RequiredMode.REQUIRED)
-  @JsonProperty("createdAt")
-  public OffsetDateTime getCreatedAt() {
-    return createdAt;
-  }
-
-  public void setCreatedAt(OffsetDateTime createdAt) {
-    this.createdAt = createdAt;
-  }
-
-  public Task updatedAt(OffsetDateTime updatedAt) {
-    this.updatedAt = updatedAt;
-    return this;
-  }
-
-  /**
-   * Timestamp when the task was last updated
-   * @return updatedAt
-  */
-  @Valid 
-  @Schema(name = "updatedAt", example = "2024-01-16T14:20Z", description = "Timestamp when the task was last updated", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
-  @JsonProperty("updatedAt")
-  public OffsetDateTime getUpdatedAt() {
-    return updatedAt;
-  }
-
-  public void setUpdatedAt(OffsetDateTime updatedAt) {
-    this.updatedAt = updatedAt;
-  }
-
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    Task task = (Task) o;
-    return Objects.equals(this.id, task.id) &&
-        Objects.equals(this.title, task.title) &&
-        Objects.equals(this.description, task.description) &&
-        Objects.equals(this.completed, task.completed) &&
-        Objects.equals(this.priority, task.priority) &&
-        Objects.equals(this.dueDate, task.dueDate) &&
-        Objects.equals(this.createdAt, task.createdAt) &&
-        Objects.equals(this.updatedAt, task.updatedAt);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(id, title, description, completed, priority, dueDate, createdAt, updatedAt);
-  }
-
-  @Override
-  public String toString() {
-    StringBuilder sb = new StringBuilder();
-    sb.append("class Task {\n");
-    sb.append("    id: ").append(toIndentedString(id)).append("\n");
-    sb.append("    title: ").append(toIndentedString(title)).append("\n");
-    sb.append("    description: ").append(toIndentedString(description)).append("\n");
-    sb.append("    completed: ").append(toIndentedString(completed)).append("\n");
-    sb.append("    priority: ").append(toIndentedString(priority)).append("\n");
-    sb.append("    dueDate: ").append(toIndentedString(dueDate)).append("\n");
-    sb.append("    createdAt: ").append(toIndentedString(createdAt)).append("\n");
-    sb.append("    updatedAt: ").append(toIndentedString(updatedAt)).append("\n");
-    sb.append("}");
-    return sb.toString();
-  }
-
-  /**
-   * Convert the given object to string with each line indented by 4 spaces
-   * (except the first line).
-   */
-  private String toIndentedString(Object o) {
-    if (o == null) {
-      return "null";
-    }
-    return o.toString().replace("\n", "\n    ");
+    this(id, title, null, completed, null, null, createdAt, null);
   }
 }
 
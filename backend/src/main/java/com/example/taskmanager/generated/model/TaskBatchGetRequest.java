@@ -0,0 +1,33 @@
+package com.example.taskmanager.generated.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * TaskBatchGetRequest
+ *
+ * @param ids IDs of the tasks to return; duplicates are ignored
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public record TaskBatchGetRequest(
+  @NotNull @Size(min = 1, max = 1000) 
+  @Schema(name = "ids", example = "[3,1,42]", description = "IDs of the tasks to return; duplicates are ignored", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("ids")
+  List<Long> ids
+) {
+}
+
@@ -0,0 +1,39 @@
+package com.example.taskmanager.generated.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.example.taskmanager.generated.model.Task;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * TaskBatchGetResult
+ *
+ * @param tasks Tasks found, in the order of the requested IDs
+ * @param missingIds Requested IDs without a task, in request order
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public record TaskBatchGetResult(
+  @NotNull @Valid 
+  @Schema(name = "tasks", description = "Tasks found, in the order of the requested IDs", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("tasks")
+  List<@Valid Task> tasks,
+  @NotNull 
+  @Schema(name = "missingIds", example = "[42]", description = "Requested IDs without a task, in request order", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("missingIds")
+  List<Long> missingIds
+) {
+}
+
@@ -0,0 +1,37 @@
+package com.example.taskmanager.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the X-Allocated-Bytes debug header just before the response body is
+ * serialized, when {@link AllocationInterceptor} has it enabled.
+ */
+@RestControllerAdvice
+public class AllocationHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return RequestAllocations.current() != null;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestAllocations allocations = RequestAllocations.current();
+        if (allocations != null && request instanceof ServletServerHttpRequest servletRequest
+                && Boolean.TRUE.equals(servletRequest.getServletRequest()
+                        .getAttribute(AllocationInterceptor.HEADER_ENABLED_ATTRIBUTE))) {
+            response.getHeaders().set(AllocationInterceptor.ALLOCATED_BYTES_HEADER,
+                    Long.toString(allocations.allocatedBytes()));
+        }
+        return body;
+    }
+}
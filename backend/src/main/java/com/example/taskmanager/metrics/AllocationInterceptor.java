@@ -0,0 +1,102 @@
+package com.example.taskmanager.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-request allocation accounting for the TasksApi endpoints.
+ *
+ * Reads the request thread's allocated-bytes counter when the handler is
+ * picked and again once the response is complete, so the figure covers
+ * binding, the controller, mapping and JSON serialization. Results go to the
+ * tasks.request.allocated distribution summary (bytes, tagged by operation)
+ * and, for operations reporting a row count, to
+ * tasks.request.allocated.per-row.
+ *
+ * With request-allocation.header=true (meant for debugging) responses carry
+ * an X-Allocated-Bytes header. It is set before the body is written, so it
+ * excludes serialization; the metrics include it.
+ *
+ * Configuration is read from application.properties:
+ * - request-allocation.enabled
+ * - request-allocation.header
+ */
+@Component
+public class AllocationInterceptor implements HandlerInterceptor {
+
+    static final String ALLOCATED_BYTES_HEADER = "X-Allocated-Bytes";
+    static final String HEADER_ENABLED_ATTRIBUTE = AllocationInterceptor.class.getName() + ".header";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean header;
+    private final Map<String, DistributionSummary[]> summaries = new ConcurrentHashMap<>();
+
+    public AllocationInterceptor(MeterRegistry meterRegistry,
+                                 @Value("${request-allocation.enabled:true}") boolean enabled,
+                                 @Value("${request-allocation.header:false}") boolean header) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled && RequestAllocations.supported();
+        this.header = header;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (enabled && handler instanceof HandlerMethod handlerMethod) {
+            RequestAllocations.start(handlerMethod.getMethod().getName());
+            request.setAttribute(HEADER_ENABLED_ATTRIBUTE, header);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestAllocations allocations = RequestAllocations.current();
+        if (allocations == null) {
+            return;
+        }
+        RequestAllocations.clear();
+        long bytes = allocations.allocatedBytes();
+        if (header && !response.isCommitted() && !response.containsHeader(ALLOCATED_BYTES_HEADER)) {
+            response.setHeader(ALLOCATED_BYTES_HEADER, Long.toString(bytes));
+        }
+
+        DistributionSummary[] operationSummaries =
+                summaries.computeIfAbsent(allocations.operation(), this::registerSummaries);
+        operationSummaries[0].record(bytes);
+        if (allocations.rows() > 0) {
+            operationSummaries[1].record((double) bytes / allocations.rows());
+        }
+    }
+
+    private DistributionSummary[] registerSummaries(String operation) {
+        return new DistributionSummary[] {
+                DistributionSummary.builder("tasks.request.allocated")
+                        .description("Heap bytes allocated by the request thread per TasksApi request")
+                        .baseUnit("bytes")
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(1024.0)
+                        .maximumExpectedValue(1024.0 * 1024 * 1024)
+                        .register(meterRegistry),
+                DistributionSummary.builder("tasks.request.allocated.per-row")
+                        .description("Heap bytes allocated per task returned or written")
+                        .baseUnit("bytes")
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(64.0)
+                        .maximumExpectedValue(1024.0 * 1024)
+                        .register(meterRegistry)
+        };
+    }
+}
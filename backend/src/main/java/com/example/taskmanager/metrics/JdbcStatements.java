@@ -0,0 +1,42 @@
+package com.example.taskmanager.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * Instrumentation for SQL issued through plain JDBC rather than Hibernate,
+ * which {@link SqlPhaseListener} and {@link StatementCountingInspector} never
+ * see: the statement is counted against the request's {@link StatementBudget}
+ * and its execution time attributed to the {@link RequestPhase#SQL} phase
+ * and reported to the {@link SlowQueryLog}.
+ */
+public final class JdbcStatements {
+
+    private JdbcStatements() {
+    }
+
+    public static <T> T execute(String sql, Supplier<T> statement) {
+        StatementBudget budget = StatementBudget.current();
+        if (budget != null) {
+            budget.onStatement(sql);
+        }
+        RequestPhases phases = RequestPhases.current();
+        boolean slowQueryLog = SlowQueryLog.isEnabled();
+        if (phases == null && !slowQueryLog) {
+            return statement.get();
+        }
+        long started = System.nanoTime();
+        if (phases != null) {
+            phases.sqlStarted();
+        }
+        try {
+            return statement.get();
+        } finally {
+            if (phases != null) {
+                phases.sqlFinished();
+            }
+            if (slowQueryLog) {
+                SlowQueryLog.executed(sql, System.nanoTime() - started);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.taskmanager.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Heap bytes allocated by the request thread while handling one TasksApi
+ * request, read from the JVM's per-thread allocation counter.
+ *
+ * Bound to the request thread by {@link AllocationInterceptor}. Only the
+ * request thread is measured: work done for the request on other threads
+ * (e.g. the caller that runs a coalesced list query) is attributed to the
+ * request that ran it.
+ */
+public final class RequestAllocations {
+
+    private static final ThreadLocal<RequestAllocations> CURRENT = new ThreadLocal<>();
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private final String operation;
+    private final long startBytes;
+    private long rows = -1;
+
+    private RequestAllocations(String operation, long startBytes) {
+        this.operation = operation;
+        this.startBytes = startBytes;
+    }
+
+    /**
+     * @return true if this JVM can report per-thread allocation
+     */
+    static boolean supported() {
+        return THREADS != null;
+    }
+
+    static RequestAllocations start(String operation) {
+        RequestAllocations allocations = new RequestAllocations(operation, THREADS.getCurrentThreadAllocatedBytes());
+        CURRENT.set(allocations);
+        return allocations;
+    }
+
+    static RequestAllocations current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Record the number of tasks the current request returned or wrote.
+     */
+    static void rows(long rows) {
+        RequestAllocations allocations = CURRENT.get();
+        if (allocations != null) {
+            allocations.rows = rows;
+        }
+    }
+
+    String operation() {
+        return operation;
+    }
+
+    /**
+     * @return the row count, or -1 if the operation didn't report one
+     */
+    long rows() {
+        return rows;
+    }
+
+    long allocatedBytes() {
+        return THREADS.getCurrentThreadAllocatedBytes() - startBytes;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+}
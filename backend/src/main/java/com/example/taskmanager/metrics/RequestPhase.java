@@ -0,0 +1,43 @@
+package com.example.taskmanager.metrics;
+
+/**
+ * Phases of a TasksApi request, in the order they happen. Each phase is
+ * exclusive: time spent executing SQL is counted under {@link #SQL} and not
+ * under the phase that issued the statement, so the phases of a request add
+ * up to its total time.
+ */
+public enum RequestPhase {
+
+    /** Servlet filters (rate limiting) and handler lookup. */
+    DISPATCH("dispatch", "Filters and routing"),
+    /** Reading and deserializing the JSON request body. */
+    BIND("bind", "Request body binding"),
+    /** Parameter binding and constraint validation up to the controller method. */
+    VALIDATE("validate", "Argument validation"),
+    /** The TaskService call, including its transaction. */
+    SERVICE("service", "TaskService"),
+    /** JDBC statement execution. */
+    SQL("sql", "SQL"),
+    /** Converting between entities and API models. */
+    MAP("map", "DTO mapping"),
+    /** Writing the JSON response body; only reported in metrics, the header is sent before it starts. */
+    SERIALIZE("serialize", "Response serialization");
+
+    static final RequestPhase[] VALUES = values();
+
+    private final String metricName;
+    private final String description;
+
+    RequestPhase(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+
+    public String description() {
+        return description;
+    }
+}
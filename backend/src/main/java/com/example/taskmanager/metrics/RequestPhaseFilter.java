@@ -0,0 +1,91 @@
+package com.example.taskmanager.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples TasksApi requests for per-phase timing.
+ *
+ * A sampled request gets a {@link RequestPhases} recorder for its duration.
+ * Its phases are sent back in a Server-Timing header (set by
+ * {@link ServerTimingAdvice} before the body is written, or here for
+ * responses without a body) and recorded into the tasks.request.phases timer,
+ * tagged by operation and phase, once the response is complete.
+ *
+ * Configuration is read from application.properties:
+ * - request-phases.sample-rate (0.0 to 1.0)
+ * - request-phases.server-timing-header
+ */
+public class RequestPhaseFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final boolean serverTimingHeader;
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public RequestPhaseFilter(MeterRegistry meterRegistry, double sampleRate, boolean serverTimingHeader) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.serverTimingHeader = serverTimingHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RequestPhases phases = RequestPhases.start();
+        request.setAttribute(ServerTimingAdvice.HEADER_ENABLED_ATTRIBUTE, serverTimingHeader);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long now = System.nanoTime();
+            RequestPhases.clear();
+            if (serverTimingHeader && !response.isCommitted() && !response.containsHeader(SERVER_TIMING_HEADER)) {
+                response.setHeader(SERVER_TIMING_HEADER, phases.serverTiming(now));
+            }
+            phases.finish(now);
+            record(phases);
+        }
+    }
+
+    private void record(RequestPhases phases) {
+        Timer[] operationTimers = timers.computeIfAbsent(phases.operation(), this::registerTimers);
+        for (RequestPhase phase : RequestPhase.VALUES) {
+            if (phases.isRecorded(phase)) {
+                operationTimers[phase.ordinal()].record(Duration.ofNanos(phases.nanos(phase)));
+            }
+        }
+    }
+
+    private Timer[] registerTimers(String operation) {
+        Timer[] operationTimers = new Timer[RequestPhase.VALUES.length];
+        for (RequestPhase phase : RequestPhase.VALUES) {
+            operationTimers[phase.ordinal()] = Timer.builder("tasks.request.phases")
+                    .description("Time spent in each phase of sampled TasksApi requests")
+                    .tag("operation", operation)
+                    .tag("phase", phase.metricName())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1).dividedBy(10))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry);
+        }
+        return operationTimers;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.taskmanager.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Ends the dispatch phase once the handler is known, and tags the request's
+ * timings with the operation (the handler method, named after the operationId
+ * in the spec).
+ */
+@Component
+public class RequestPhaseInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestPhases phases = RequestPhases.current();
+        if (phases != null) {
+            if (handler instanceof HandlerMethod handlerMethod) {
+                phases.operation(handlerMethod.getMethod().getName());
+            }
+            RequestPhases.mark(RequestPhase.DISPATCH);
+        }
+        return true;
+    }
+}
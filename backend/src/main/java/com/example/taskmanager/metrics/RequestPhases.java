@@ -0,0 +1,134 @@
+package com.example.taskmanager.metrics;
+
+import java.util.Locale;
+
+/**
+ * Per-request phase timings.
+ *
+ * A sampled request gets a recorder bound to its thread by
+ * {@link RequestPhaseFilter}; code along the request path calls
+ * {@link #mark(RequestPhase)} when a phase ends, which attributes the time
+ * since the previous mark to that phase (minus any SQL time recorded in
+ * between). Repeated marks of the same phase accumulate. For requests that
+ * are not sampled every call is a ThreadLocal lookup and a null check.
+ */
+public final class RequestPhases {
+
+    private static final ThreadLocal<RequestPhases> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final long[] nanos = new long[RequestPhase.VALUES.length];
+    private int recorded;
+    private long lastMark;
+    private long sqlSinceMark;
+    private long sqlStart;
+    private long responseStart;
+    private String operation = "unknown";
+
+    private RequestPhases(long startNanos) {
+        this.startNanos = startNanos;
+        this.lastMark = startNanos;
+    }
+
+    /**
+     * End the given phase for the current request, if it is sampled.
+     */
+    public static void mark(RequestPhase phase) {
+        RequestPhases phases = CURRENT.get();
+        if (phases != null) {
+            phases.end(phase, System.nanoTime());
+        }
+    }
+
+    static RequestPhases current() {
+        return CURRENT.get();
+    }
+
+    static RequestPhases start() {
+        RequestPhases phases = new RequestPhases(System.nanoTime());
+        CURRENT.set(phases);
+        return phases;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void sqlStarted() {
+        sqlStart = System.nanoTime();
+    }
+
+    void sqlFinished() {
+        if (sqlStart == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - sqlStart;
+        sqlStart = 0;
+        sqlSinceMark += elapsed;
+        add(RequestPhase.SQL, elapsed);
+    }
+
+    void operation(String operation) {
+        this.operation = operation;
+    }
+
+    String operation() {
+        return operation;
+    }
+
+    /**
+     * The response body is about to be written; whatever follows is serialization.
+     */
+    void responseStarted(long now) {
+        responseStart = now;
+    }
+
+    void finish(long now) {
+        if (responseStart != 0) {
+            add(RequestPhase.SERIALIZE, now - responseStart);
+        }
+    }
+
+    boolean isRecorded(RequestPhase phase) {
+        return (recorded & (1 << phase.ordinal())) != 0;
+    }
+
+    long nanos(RequestPhase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * Server-Timing header value for the phases recorded so far, plus the
+     * total time up to now.
+     */
+    String serverTiming(long now) {
+        StringBuilder header = new StringBuilder(160);
+        for (RequestPhase phase : RequestPhase.VALUES) {
+            if (phase != RequestPhase.SERIALIZE && isRecorded(phase)) {
+                appendMetric(header, phase.metricName(), phase.description(), nanos[phase.ordinal()]);
+            }
+        }
+        appendMetric(header, "total", "Total", now - startNanos);
+        return header.toString();
+    }
+
+    private void end(RequestPhase phase, long now) {
+        add(phase, Math.max(0, now - lastMark - sqlSinceMark));
+        lastMark = now;
+        sqlSinceMark = 0;
+    }
+
+    private void add(RequestPhase phase, long elapsed) {
+        nanos[phase.ordinal()] += elapsed;
+        recorded |= 1 << phase.ordinal();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, String description, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name)
+                .append(";desc=\"").append(description).append('"')
+                .append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+}
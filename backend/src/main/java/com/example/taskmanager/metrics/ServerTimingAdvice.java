@@ -0,0 +1,59 @@
+package com.example.taskmanager.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Type;
+
+/**
+ * Hooks request phase timing into message conversion: ends the bind phase
+ * once the request body has been read, and adds the Server-Timing header
+ * just before the response body is serialized.
+ */
+@RestControllerAdvice
+public class ServerTimingAdvice extends RequestBodyAdviceAdapter implements ResponseBodyAdvice<Object> {
+
+    static final String HEADER_ENABLED_ATTRIBUTE = ServerTimingAdvice.class.getName() + ".header";
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return RequestPhases.current() != null;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestPhases.mark(RequestPhase.BIND);
+        return body;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return RequestPhases.current() != null;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestPhases phases = RequestPhases.current();
+        if (phases != null) {
+            long now = System.nanoTime();
+            if (request instanceof ServletServerHttpRequest servletRequest
+                    && Boolean.TRUE.equals(servletRequest.getServletRequest().getAttribute(HEADER_ENABLED_ATTRIBUTE))) {
+                response.getHeaders().set(RequestPhaseFilter.SERVER_TIMING_HEADER, phases.serverTiming(now));
+            }
+            phases.responseStarted(now);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.taskmanager.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sampled slow-query log, the production replacement for show-sql.
+ *
+ * Every SQL statement, whether issued by Hibernate or through
+ * {@link JdbcStatements}, is timed; statements taking at least
+ * sql-slow-log.threshold-millis are counted in tasks.sql.slow, and a
+ * sql-slow-log.sample-rate share of them is logged with its SQL on the
+ * com.example.taskmanager.SQL_SLOW logger. Each logged line also reports how
+ * many slow statements were skipped since the previous one, so a burst of
+ * slow queries costs a bounded number of log lines. A negative threshold
+ * (the default) disables the log and leaves only a ThreadLocal lookup and a
+ * null check per statement.
+ *
+ * Hibernate instantiates the inspector and listener that feed this log, so
+ * the configured instance is published through a static field.
+ */
+@Component
+public class SlowQueryLog implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger("com.example.taskmanager.SQL_SLOW");
+
+    private static volatile SlowQueryLog active;
+
+    private static final ThreadLocal<Statement> CURRENT = ThreadLocal.withInitial(Statement::new);
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final Counter slowStatements;
+    private final AtomicLong skipped = new AtomicLong();
+
+    public SlowQueryLog(Environment environment, MeterRegistry meterRegistry) {
+        long thresholdMillis = environment.getProperty("sql-slow-log.threshold-millis", Long.class, -1L);
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = environment.getProperty("sql-slow-log.sample-rate", Double.class, 1.0);
+        this.slowStatements = Counter.builder("tasks.sql.slow")
+                .description("SQL statements slower than sql-slow-log.threshold-millis")
+                .register(meterRegistry);
+        active = thresholdMillis >= 0 ? this : null;
+    }
+
+    @Override
+    public void destroy() {
+        if (active == this) {
+            active = null;
+        }
+    }
+
+    /**
+     * The statement about to be executed on this thread.
+     */
+    static void prepared(String sql) {
+        if (active != null) {
+            CURRENT.get().sql = sql;
+        }
+    }
+
+    static void started() {
+        if (active != null) {
+            CURRENT.get().startNanos = System.nanoTime();
+        }
+    }
+
+    static void finished() {
+        SlowQueryLog slowQueryLog = active;
+        if (slowQueryLog == null) {
+            return;
+        }
+        Statement statement = CURRENT.get();
+        if (statement.startNanos != 0) {
+            slowQueryLog.record(statement.sql, System.nanoTime() - statement.startNanos);
+            statement.startNanos = 0;
+        }
+    }
+
+    /**
+     * Record a statement timed by the caller.
+     */
+    static void executed(String sql, long elapsedNanos) {
+        SlowQueryLog slowQueryLog = active;
+        if (slowQueryLog != null) {
+            slowQueryLog.record(sql, elapsedNanos);
+        }
+    }
+
+    static boolean isEnabled() {
+        return active != null;
+    }
+
+    private void record(String sql, long elapsedNanos) {
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        slowStatements.increment();
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            skipped.incrementAndGet();
+            return;
+        }
+        log.warn("Slow SQL ({} ms, {} slow statements skipped since the last one logged): {}",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), skipped.getAndSet(0), sql);
+    }
+
+    private static final class Statement {
+        String sql;
+        long startNanos;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.taskmanager.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that attributes JDBC statement execution time
+ * to the {@link RequestPhase#SQL} phase of the current sampled request, and
+ * times statements for the {@link SlowQueryLog}.
+ *
+ * Hibernate creates one instance per session; it is registered through
+ * spring.jpa.properties.hibernate.session.events.auto.
+ */
+public class SqlPhaseListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SlowQueryLog.started();
+        RequestPhases phases = RequestPhases.current();
+        if (phases != null) {
+            phases.sqlStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SlowQueryLog.finished();
+        RequestPhases phases = RequestPhases.current();
+        if (phases != null) {
+            phases.sqlFinished();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
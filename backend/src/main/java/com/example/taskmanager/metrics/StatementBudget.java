@@ -0,0 +1,97 @@
+package com.example.taskmanager.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements issued while handling one TasksApi request, checked against
+ * the operation's budget.
+ *
+ * Bound to the request thread by {@link StatementBudgetInterceptor} and fed
+ * by {@link StatementCountingInspector}. Besides the total count it tracks how
+ * often each distinct SELECT was issued: Hibernate renders the same SQL text
+ * for every execution of a query, so a SELECT repeated many times within one
+ * request is the signature of an N+1 pattern.
+ */
+public final class StatementBudget {
+
+    private static final ThreadLocal<StatementBudget> CURRENT = new ThreadLocal<>();
+
+    private final String operation;
+    private final int budget;
+    private final int repeatedSelectThreshold;
+    private final boolean enforce;
+    private final Map<String, Integer> selects = new HashMap<>();
+    private int statements;
+    private String repeatedSelect;
+
+    StatementBudget(String operation, int budget, int repeatedSelectThreshold, boolean enforce) {
+        this.operation = operation;
+        this.budget = budget;
+        this.repeatedSelectThreshold = repeatedSelectThreshold;
+        this.enforce = enforce;
+    }
+
+    static StatementBudget current() {
+        return CURRENT.get();
+    }
+
+    static void bind(StatementBudget budget) {
+        CURRENT.set(budget);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void onStatement(String sql) {
+        statements++;
+        if (isSelect(sql)) {
+            int executions = selects.merge(sql, 1, Integer::sum);
+            if (executions == repeatedSelectThreshold && repeatedSelect == null) {
+                repeatedSelect = sql;
+            }
+        }
+        if (enforce) {
+            if (statements > budget) {
+                throw new StatementBudgetExceededException(operation + " issued " + statements
+                        + " SQL statements, over its budget of " + budget + "; last: " + sql);
+            }
+            if (repeatedSelect != null) {
+                throw new StatementBudgetExceededException(operation + " issued the same SELECT "
+                        + repeatedSelectThreshold + " times (N+1 pattern): " + repeatedSelect);
+            }
+        }
+    }
+
+    String operation() {
+        return operation;
+    }
+
+    int budget() {
+        return budget;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    boolean isOverBudget() {
+        return statements > budget;
+    }
+
+    /**
+     * @return a SELECT issued at least the repeated-select threshold times, or null
+     */
+    String repeatedSelect() {
+        return repeatedSelect;
+    }
+
+    private static boolean isSelect(String sql) {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        return sql.regionMatches(true, start, "select", 0, 6);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.taskmanager.metrics;
+
+/**
+ * Thrown in enforcing mode when a request issues more SQL statements than its
+ * operation's budget, or repeats a SELECT often enough to look like N+1.
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
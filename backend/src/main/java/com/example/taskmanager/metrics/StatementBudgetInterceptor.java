@@ -0,0 +1,107 @@
+package com.example.taskmanager.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-operation SQL statement budgets for the TasksApi endpoints.
+ *
+ * Every request counts the statements Hibernate prepares on its behalf. The
+ * count is recorded in the tasks.request.statements summary, and requests that
+ * exceed their operation's budget or repeat a SELECT (N+1) are logged and
+ * counted in tasks.request.statement-budget.exceeded. With
+ * sql-budget.enforce=true (meant for development and CI smoke runs) the
+ * offending statement fails the request instead, so a regression such as an
+ * extra SELECT in updateTask surfaces as an error rather than a slowdown.
+ *
+ * Budgets are upper bounds for the JPA engine; the in-process engines issue
+ * no SQL. Configuration is read from application.properties:
+ * - sql-budget.enforce
+ * - sql-budget.default
+ * - sql-budget.repeated-select-threshold
+ * - sql-budget.operations.{operationId}
+ */
+@Component
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementBudgetInterceptor.class);
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final boolean enforce;
+    private final int defaultBudget;
+    private final int repeatedSelectThreshold;
+    private final Map<String, Integer> budgets = new ConcurrentHashMap<>();
+
+    public StatementBudgetInterceptor(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.enforce = environment.getProperty("sql-budget.enforce", Boolean.class, false);
+        this.defaultBudget = environment.getProperty("sql-budget.default", Integer.class, 5);
+        this.repeatedSelectThreshold = environment.getProperty("sql-budget.repeated-select-threshold",
+                Integer.class, 3);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            String operation = handlerMethod.getMethod().getName();
+            int budget = budgets.computeIfAbsent(operation, op ->
+                    environment.getProperty("sql-budget.operations." + op, Integer.class, defaultBudget));
+            if (budget < 0) {
+                // Unbounded by design (bulk operations)
+                return true;
+            }
+            StatementBudget.bind(new StatementBudget(operation, budget, repeatedSelectThreshold, enforce));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        StatementBudget budget = StatementBudget.current();
+        if (budget == null) {
+            return;
+        }
+        StatementBudget.clear();
+
+        DistributionSummary.builder("tasks.request.statements")
+                .description("SQL statements issued per TasksApi request")
+                .tag("operation", budget.operation())
+                .register(meterRegistry)
+                .record(budget.statements());
+
+        if (budget.isOverBudget()) {
+            exceeded(budget, "budget");
+            log.warn("{} issued {} SQL statements, over its budget of {}",
+                    budget.operation(), budget.statements(), budget.budget());
+        }
+        if (budget.repeatedSelect() != null) {
+            exceeded(budget, "repeated-select");
+            log.warn("{} issued the same SELECT at least {} times (N+1 pattern): {}",
+                    budget.operation(), repeatedSelectThreshold, budget.repeatedSelect());
+        }
+    }
+
+    private void exceeded(StatementBudget budget, String reason) {
+        Counter.builder("tasks.request.statement-budget.exceeded")
+                .description("TasksApi requests that exceeded their SQL statement budget")
+                .tag("operation", budget.operation())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.taskmanager.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts the SQL statements prepared for
+ * the current TasksApi request against its {@link StatementBudget}. Statements
+ * outside a request (startup, background jobs) are not counted. Every
+ * statement is also handed to the {@link SlowQueryLog}, which times it.
+ *
+ * Registered through spring.jpa.properties.hibernate.session_factory.statement_inspector.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SlowQueryLog.prepared(sql);
+        StatementBudget budget = StatementBudget.current();
+        if (budget != null) {
+            budget.onStatement(sql);
+        }
+        return sql;
+    }
+}
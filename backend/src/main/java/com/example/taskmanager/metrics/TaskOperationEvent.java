@@ -0,0 +1,46 @@
+package com.example.taskmanager.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event spanning one TasksApi request, from handler dispatch to
+ * completion. Disabled unless the recording enables it, e.g. with
+ * jfr/taskmanager.jfc.
+ */
+@Name("com.example.taskmanager.TaskOperation")
+@Label("Task Operation")
+@Category({"Task Manager", "API"})
+@Description("A TasksApi request handled by TaskController")
+@Enabled(false)
+@Threshold("0 ms")
+@StackTrace(false)
+public class TaskOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("operationId from the OpenAPI spec")
+    public String operation;
+
+    @Label("HTTP Status")
+    public int status;
+
+    @Label("Rows")
+    @Description("Tasks returned, written or imported")
+    public long rows;
+
+    @Label("Cache")
+    @Description("Cache consulted for the response: etag, idempotency or single-flight")
+    public String cache;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    @Label("SQL Statements")
+    @Description("Statements counted against the SQL budget, -1 if the operation has none")
+    public int statements;
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanager.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Emits a {@link TaskOperationEvent} per TasksApi request while a JFR
+ * recording has the event enabled. Must be registered after
+ * {@link StatementBudgetInterceptor}, so it completes while the request's
+ * statement count is still bound.
+ */
+@Component
+public class TaskOperationEventInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            TaskOperationEvent event = new TaskOperationEvent();
+            if (event.isEnabled()) {
+                event.operation = handlerMethod.getMethod().getName();
+                event.begin();
+                TaskOperationEvents.bind(event);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        TaskOperationEvent event = TaskOperationEvents.current();
+        if (event == null) {
+            return;
+        }
+        TaskOperationEvents.clear();
+        event.end();
+        if (event.shouldCommit()) {
+            event.status = response.getStatus();
+            StatementBudget budget = StatementBudget.current();
+            event.statements = budget != null ? budget.statements() : -1;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.taskmanager.metrics;
+
+/**
+ * Access to the {@link TaskOperationEvent} of the current request.
+ *
+ * {@link TaskOperationEventInterceptor} binds an event to the request thread
+ * while JFR records it; code along the request path adds the row count and
+ * cache outcome. When the event is disabled every call is a ThreadLocal
+ * lookup and a null check.
+ */
+public final class TaskOperationEvents {
+
+    private static final ThreadLocal<TaskOperationEvent> CURRENT = new ThreadLocal<>();
+
+    private TaskOperationEvents() {
+    }
+
+    /**
+     * Record the number of tasks returned or written; also feeds the
+     * per-row allocation metric.
+     */
+    public static void rows(long rows) {
+        RequestAllocations.rows(rows);
+        TaskOperationEvent event = CURRENT.get();
+        if (event != null) {
+            event.rows = rows;
+        }
+    }
+
+    /**
+     * Record the outcome of a cache lookup; the last one of the request wins.
+     */
+    public static void cache(String cache, boolean hit) {
+        TaskOperationEvent event = CURRENT.get();
+        if (event != null) {
+            event.cache = cache;
+            event.cacheHit = hit;
+        }
+    }
+
+    static TaskOperationEvent current() {
+        return CURRENT.get();
+    }
+
+    static void bind(TaskOperationEvent event) {
+        CURRENT.set(event);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
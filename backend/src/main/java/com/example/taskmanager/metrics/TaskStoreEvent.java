@@ -0,0 +1,38 @@
+package com.example.taskmanager.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for one call into the task storage engine. Disabled unless the
+ * recording enables it, e.g. with jfr/taskmanager.jfc.
+ */
+@Name("com.example.taskmanager.TaskStoreCall")
+@Label("Task Store Call")
+@Category({"Task Manager", "Persistence"})
+@Description("A TaskStore method call made by TaskService")
+@Enabled(false)
+@Threshold("0 ms")
+@StackTrace(false)
+public class TaskStoreEvent extends jdk.jfr.Event {
+
+    @Label("Engine")
+    @Description("Storage engine class")
+    public String engine;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Rows")
+    @Description("Tasks read or written")
+    public long rows;
+
+    @Label("Found")
+    @Description("For lookups by id: whether the task exists")
+    public boolean found;
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.entity.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
@@ -0,0 +1,360 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.entity.ArchivedTaskEntity;
+import com.example.taskmanager.entity.TaskEntity;
+import com.example.taskmanager.metrics.JdbcStatements;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@Component
+@ConditionalOnProperty(name = "task.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaTaskStore implements TaskStore {
+
+    private static final String READ_BY_ID_SQL = "select " + TaskRowMapper.COLUMNS + " from tasks where id = ?";
+    private static final String READ_ARCHIVED_BY_ID_SQL =
+            "select " + TaskRowMapper.COLUMNS + " from tasks_archive where id = ?";
+
+    // Stand-ins for a missing due range bound, so one query covers every combination
+    private static final OffsetDateTime EARLIEST_DUE = OffsetDateTime.of(1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime LATEST_DUE = OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC);
+    private static final long DUE_SLOT_SECONDS = 900;
+
+    // IN lists are padded to a power of two between these sizes, so a handful of statement shapes cover every batch
+    private static final int MIN_ID_BATCH = 8;
+    private static final int MAX_ID_BATCH = 512;
+
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository archiveRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaTaskStore(TaskRepository taskRepository, TaskArchiveRepository archiveRepository,
+                        EntityManager entityManager, JdbcTemplate jdbcTemplate) {
+        this.taskRepository = taskRepository;
+        this.archiveRepository = archiveRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TaskEntity> findTasks(TaskQuery query) {
+        List<TaskEntity> tasks = query.fields() != null
+                ? findProjected(TaskEntity.class, query)
+                : findHotTasks(query);
+        // Archived tasks are all completed
+        if (!query.includeArchived() || Boolean.FALSE.equals(query.completed())) {
+            return tasks;
+        }
+
+        // Each side is already sorted and limited; merge them and cut to the limit again
+        List<TaskEntity> merged = new ArrayList<>(tasks);
+        if (query.fields() != null) {
+            merged.addAll(findProjected(ArchivedTaskEntity.class, query));
+        } else {
+            Pageable page = page(query);
+            List<ArchivedTaskEntity> archived = query.hasDueRange()
+                    ? archiveRepository.findDueBetween(dueFrom(query), dueTo(query), page)
+                    : archiveRepository.findAllBy(page);
+            archived.forEach(task -> merged.add(task.toTask()));
+        }
+        merged.sort(query.stableComparator());
+        return query.limit() != null && merged.size() > query.limit()
+                ? new ArrayList<>(merged.subList(0, query.limit()))
+                : merged;
+    }
+
+    private List<TaskEntity> findHotTasks(TaskQuery query) {
+        if (query.hasDueRange()) {
+            return taskRepository.findDueBetween(query.completed(), dueFrom(query), dueTo(query), page(query));
+        }
+        Sort sort = hotSort(query);
+        if (query.limit() == null) {
+            return query.completed() != null
+                    ? taskRepository.findByCompleted(query.completed(), sort)
+                    : taskRepository.findAll(sort);
+        }
+        // Pushes ORDER BY ... FETCH FIRST n ROWS into SQL instead of trimming in memory
+        Pageable page = PageRequest.of(0, query.limit(), sort);
+        return query.completed() != null
+                ? taskRepository.findByCompleted(query.completed(), page)
+                : taskRepository.findAllBy(page);
+    }
+
+    /**
+     * List query selecting only {@link TaskQuery#selectedFields()} instead of
+     * whole entities, mapped to detached TaskEntity instances with the other
+     * properties left null. The table and archive entities share property
+     * names, so one query shape serves both.
+     */
+    private List<TaskEntity> findProjected(Class<?> entity, TaskQuery query) {
+        List<String> fields = List.copyOf(query.selectedFields());
+        StringBuilder jpql = new StringBuilder("select ");
+        for (int i = 0; i < fields.size(); i++) {
+            jpql.append(i > 0 ? ", t." : "t.").append(fields.get(i));
+        }
+        jpql.append(" from ").append(entity.getSimpleName()).append(" t");
+        // Archived tasks are all completed
+        boolean completedFilter = query.completed() != null && entity == TaskEntity.class;
+        List<String> conditions = new ArrayList<>();
+        if (completedFilter) {
+            conditions.add("t.completed = :completed");
+        }
+        if (query.hasDueRange()) {
+            conditions.add("t.dueDate >= :from and t.dueDate < :to");
+        }
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        String separator = " order by ";
+        for (Sort.Order order : completedFilter ? hotSort(query) : query.stableSort()) {
+            jpql.append(separator).append("t.").append(order.getProperty())
+                    .append(order.isAscending() ? " asc" : " desc")
+                    .append(switch (order.getNullHandling()) {
+                        case NULLS_FIRST -> " nulls first";
+                        case NULLS_LAST -> " nulls last";
+                        case NATIVE -> "";
+                    });
+            separator = ", ";
+        }
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(jpql.toString(), Tuple.class);
+        if (completedFilter) {
+            typed.setParameter("completed", query.completed());
+        }
+        if (query.hasDueRange()) {
+            typed.setParameter("from", dueFrom(query)).setParameter("to", dueTo(query));
+        }
+        if (query.limit() != null) {
+            typed.setMaxResults(query.limit());
+        }
+        List<Tuple> rows = typed.getResultList();
+        List<TaskEntity> tasks = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            TaskEntity task = new TaskEntity();
+            for (int i = 0; i < fields.size(); i++) {
+                setField(task, fields.get(i), row.get(i));
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static void setField(TaskEntity task, String field, Object value) {
+        switch (field) {
+            case "id" -> task.setId((Long) value);
+            case "title" -> task.setTitle((String) value);
+            case "description" -> task.setDescription((String) value);
+            case "completed" -> task.setCompleted((Boolean) value);
+            case "priority" -> task.setPriority((TaskEntity.Priority) value);
+            case "dueDate" -> task.setDueDate((OffsetDateTime) value);
+            case "createdAt" -> task.setCreatedAt((OffsetDateTime) value);
+            case "updatedAt" -> task.setUpdatedAt((OffsetDateTime) value);
+            default -> throw new IllegalArgumentException("Unsupported task field: " + field);
+        }
+    }
+
+    /**
+     * The query's sort for the hot table. With the completion filter,
+     * completed leads the ORDER BY: it is constant under the filter, and H2
+     * only reads an index in order instead of sorting when the ORDER BY
+     * starts at the index's first column (see the indexes on TaskEntity).
+     */
+    private static Sort hotSort(TaskQuery query) {
+        Sort sort = query.stableSort();
+        return query.completed() != null ? Sort.by("completed").and(sort) : sort;
+    }
+
+    /**
+     * The query's sort with its limit pushed into SQL (ORDER BY ... FETCH
+     * FIRST n ROWS), or just the sort without a limit.
+     */
+    private static Pageable page(TaskQuery query) {
+        Sort sort = query.stableSort();
+        return query.limit() != null ? PageRequest.of(0, query.limit(), sort) : Pageable.unpaged(sort);
+    }
+
+    private static OffsetDateTime dueFrom(TaskQuery query) {
+        return query.dueFrom() != null ? query.dueFrom() : EARLIEST_DUE;
+    }
+
+    private static OffsetDateTime dueTo(TaskQuery query) {
+        return query.dueTo() != null ? query.dueTo() : LATEST_DUE;
+    }
+
+    @Override
+    public long count(TaskQuery query) {
+        boolean withArchive = query.includeArchived() && !Boolean.FALSE.equals(query.completed());
+        if (query.hasDueRange()) {
+            long count = taskRepository.countDueBetween(query.completed(), dueFrom(query), dueTo(query));
+            return withArchive ? count + archiveRepository.countDueBetween(dueFrom(query), dueTo(query)) : count;
+        }
+        long count = query.completed() != null
+                ? taskRepository.countByCompleted(query.completed())
+                : taskRepository.count();
+        return withArchive ? count + archiveRepository.count() : count;
+    }
+
+    /**
+     * One grouped query per table over 15-minute due date slots, folded into
+     * days of the requested zone here.
+     */
+    @Override
+    public SortedMap<LocalDate, Long> countByDueDay(TaskQuery query, ZoneId zone) {
+        SortedMap<LocalDate, Long> counts = new TreeMap<>();
+        addSlotCounts(counts, zone, taskRepository.countDueBySlot(query.completed(), dueFrom(query), dueTo(query)));
+        if (query.includeArchived() && !Boolean.FALSE.equals(query.completed())) {
+            addSlotCounts(counts, zone, archiveRepository.countDueBySlot(dueFrom(query), dueTo(query)));
+        }
+        return counts;
+    }
+
+    private static void addSlotCounts(SortedMap<LocalDate, Long> counts, ZoneId zone, List<Object[]> slots) {
+        for (Object[] slot : slots) {
+            LocalDate day = Instant.ofEpochSecond(((Number) slot[0]).longValue() * DUE_SLOT_SECONDS)
+                    .atZone(zone)
+                    .toLocalDate();
+            counts.merge(day, ((Number) slot[1]).longValue(), Long::sum);
+        }
+    }
+
+    /**
+     * Locks the row (SELECT ... FOR UPDATE): the caller modifies or deletes
+     * the task, and an archiver batch that moved it in between would turn the
+     * write into a stale update. A task archived while this waits for the
+     * lock is simply not found, and the caller falls back to the archive.
+     */
+    @Override
+    public Optional<TaskEntity> findById(long id) {
+        return taskRepository.findForUpdateById(id);
+    }
+
+    /**
+     * Prepared primary key query mapped straight to a detached entity: no
+     * persistence context, no managed-entity snapshot and no transaction.
+     * The archive is only queried on a miss (a UNION ALL of both tables
+     * allocates noticeably more per lookup in H2).
+     */
+    @Override
+    public Optional<TaskEntity> readById(long id) {
+        return queryById(READ_BY_ID_SQL, id).or(() -> queryById(READ_ARCHIVED_BY_ID_SQL, id));
+    }
+
+    private Optional<TaskEntity> queryById(String sql, long id) {
+        List<TaskEntity> rows = JdbcStatements.execute(sql,
+                () -> jdbcTemplate.query(sql, TaskRowMapper.INSTANCE, id));
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    /**
+     * Same path as {@link #readById}, with chunked IN queries: the hot table
+     * for all ids, then the archive for the ids not found there.
+     */
+    @Override
+    public Map<Long, TaskEntity> readByIds(Collection<Long> ids) {
+        Map<Long, TaskEntity> tasks = new HashMap<>();
+        queryByIds("tasks", List.copyOf(ids), tasks);
+        if (tasks.size() < ids.size()) {
+            queryByIds("tasks_archive", ids.stream().filter(id -> !tasks.containsKey(id)).toList(), tasks);
+        }
+        return tasks;
+    }
+
+    private void queryByIds(String table, List<Long> ids, Map<Long, TaskEntity> tasks) {
+        for (int from = 0; from < ids.size(); from += MAX_ID_BATCH) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_ID_BATCH));
+            int size = Math.max(MIN_ID_BATCH, Integer.highestOneBit(chunk.size() - 1) << 1);
+            Object[] args = new Object[size];
+            for (int i = 0; i < size; i++) {
+                // Repeating the last id fills the padding without matching another row
+                args[i] = chunk.get(Math.min(i, chunk.size() - 1));
+            }
+            String sql = "select " + TaskRowMapper.COLUMNS + " from " + table + " where id in ("
+                    + "?,".repeat(size - 1) + "?)";
+            JdbcStatements.execute(sql, () -> jdbcTemplate.query(sql, TaskRowMapper.INSTANCE, args))
+                    .forEach(task -> tasks.put(task.getId(), task));
+        }
+    }
+
+    @Override
+    public TaskEntity save(TaskEntity task) {
+        return taskRepository.save(task);
+    }
+
+    /**
+     * Inserts go out as JDBC batches (hibernate.jdbc.batch_size). The
+     * persistence context is flushed and cleared afterwards: with open-in-view
+     * it outlives the transaction, and would otherwise keep every imported
+     * entity of the request managed.
+     */
+    @Override
+    public void saveAll(List<TaskEntity> tasks) {
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        return taskRepository.deleteTaskById(id) > 0 || archiveRepository.deleteArchivedByIds(List.of(id)) > 0;
+    }
+
+    @Override
+    public Optional<TaskEntity> findArchivedById(long id) {
+        return archiveRepository.findById(id).map(ArchivedTaskEntity::toTask);
+    }
+
+    /**
+     * Three statements per batch: lock the batch's rows, copy them with
+     * INSERT ... SELECT and delete them; no entities are loaded.
+     */
+    @Override
+    public int archiveCompleted(OffsetDateTime updatedBefore, int batchSize) {
+        List<Long> ids = taskRepository.findArchivableIds(updatedBefore, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archiveRepository.copyFromTasks(ids, OffsetDateTime.now());
+        taskRepository.deleteTasksByIds(ids);
+        return ids.size();
+    }
+
+    @Override
+    public long maxId() {
+        return taskRepository.findMaxId();
+    }
+
+    @Override
+    public int escalatePriority(long fromId, long toId, TaskEntity.Priority priority, OffsetDateTime dueBefore) {
+        return taskRepository.escalatePriority(fromId, toId, priority, dueBefore, OffsetDateTime.now());
+    }
+
+    @Override
+    public Optional<TaskEntity> restoreArchived(long id) {
+        if (taskRepository.restoreFromArchive(id) == 0) {
+            return Optional.empty();
+        }
+        archiveRepository.deleteArchivedByIds(List.of(id));
+        return taskRepository.findById(id);
+    }
+}
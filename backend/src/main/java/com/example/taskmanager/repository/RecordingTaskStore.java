@@ -0,0 +1,129 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.entity.TaskEntity;
+import com.example.taskmanager.metrics.TaskStoreEvent;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * TaskStore decorator emitting a {@link TaskStoreEvent} for every call while a
+ * JFR recording has the event enabled; otherwise it only adds the
+ * isEnabled() check. Every TaskStore method, default ones included, must be
+ * overridden here, or calls to it go unrecorded.
+ */
+public class RecordingTaskStore implements TaskStore {
+
+    private final TaskStore delegate;
+    private final String engine;
+
+    public RecordingTaskStore(TaskStore delegate) {
+        this.delegate = delegate;
+        this.engine = delegate.getClass().getSimpleName();
+    }
+
+    @Override
+    public List<TaskEntity> findTasks(TaskQuery query) {
+        return record("findTasks", () -> delegate.findTasks(query), List::size);
+    }
+
+    @Override
+    public long count(TaskQuery query) {
+        return record("count", () -> delegate.count(query), Long::longValue);
+    }
+
+    @Override
+    public SortedMap<LocalDate, Long> countByDueDay(TaskQuery query, ZoneId zone) {
+        return record("countByDueDay", () -> delegate.countByDueDay(query, zone), Map::size);
+    }
+
+    @Override
+    public Optional<TaskEntity> findById(long id) {
+        return recordLookup("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<TaskEntity> readById(long id) {
+        return recordLookup("readById", () -> delegate.readById(id));
+    }
+
+    @Override
+    public Map<Long, TaskEntity> readByIds(Collection<Long> ids) {
+        return record("readByIds", () -> delegate.readByIds(ids), Map::size);
+    }
+
+    @Override
+    public TaskEntity save(TaskEntity task) {
+        return record("save", () -> delegate.save(task), saved -> 1);
+    }
+
+    @Override
+    public void saveAll(List<TaskEntity> tasks) {
+        record("saveAll", () -> {
+            delegate.saveAll(tasks);
+            return tasks;
+        }, List::size);
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        return record("deleteById", () -> delegate.deleteById(id), deleted -> deleted ? 1 : 0);
+    }
+
+    @Override
+    public Optional<TaskEntity> findArchivedById(long id) {
+        return recordLookup("findArchivedById", () -> delegate.findArchivedById(id));
+    }
+
+    @Override
+    public int archiveCompleted(OffsetDateTime updatedBefore, int batchSize) {
+        return record("archiveCompleted", () -> delegate.archiveCompleted(updatedBefore, batchSize),
+                Integer::longValue);
+    }
+
+    @Override
+    public Optional<TaskEntity> restoreArchived(long id) {
+        return recordLookup("restoreArchived", () -> delegate.restoreArchived(id));
+    }
+
+    @Override
+    public long maxId() {
+        return record("maxId", delegate::maxId, maxId -> 0L);
+    }
+
+    @Override
+    public int escalatePriority(long fromId, long toId, TaskEntity.Priority priority, OffsetDateTime dueBefore) {
+        return record("escalatePriority", () -> delegate.escalatePriority(fromId, toId, priority, dueBefore),
+                Integer::longValue);
+    }
+
+    private Optional<TaskEntity> recordLookup(String method, Supplier<Optional<TaskEntity>> call) {
+        return record(method, call, task -> task.isPresent() ? 1 : 0);
+    }
+
+    private <T> T record(String method, Supplier<T> call, ToLongFunction<T> rows) {
+        TaskStoreEvent event = new TaskStoreEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+        event.begin();
+        T result = call.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.engine = engine;
+            event.method = method;
+            event.rows = rows.applyAsLong(result);
+            event.found = event.rows > 0;
+            event.commit();
+        }
+        return result;
+    }
+}
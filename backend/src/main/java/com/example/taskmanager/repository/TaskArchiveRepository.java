@@ -0,0 +1,49 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.entity.ArchivedTaskEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<ArchivedTaskEntity, Long> {
+
+    List<ArchivedTaskEntity> findAllBy(Pageable pageable);
+
+    @Query("select a from ArchivedTaskEntity a where a.dueDate >= :from and a.dueDate < :to")
+    List<ArchivedTaskEntity> findDueBetween(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to,
+                                            Pageable pageable);
+
+    @Query("select count(a) from ArchivedTaskEntity a where a.dueDate >= :from and a.dueDate < :to")
+    long countDueBetween(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+    /**
+     * See {@link TaskRepository#countDueBySlot}.
+     */
+    @Query("select floor(extract(epoch from a.dueDate) / 900), count(a) from ArchivedTaskEntity a "
+            + "where a.dueDate >= :from and a.dueDate < :to group by floor(extract(epoch from a.dueDate) / 900)")
+    List<Object[]> countDueBySlot(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+    /**
+     * Copy tasks from the hot table in one statement, without loading them.
+     *
+     * @return the number of copied rows
+     */
+    @Modifying
+    @Query("insert into ArchivedTaskEntity (id, title, description, completed, priority, dueDate, createdAt, "
+            + "updatedAt, archivedAt) "
+            + "select t.id, t.title, t.description, t.completed, t.priority, t.dueDate, t.createdAt, t.updatedAt, "
+            + ":archivedAt from TaskEntity t where t.id in :ids")
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("archivedAt") OffsetDateTime archivedAt);
+
+    @Modifying
+    @Query("delete from ArchivedTaskEntity a where a.id in :ids")
+    int deleteArchivedByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.entity.TaskChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskChangeRepository extends JpaRepository<TaskChange, Long> {
+
+    List<TaskChange> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    @Query("select coalesce(max(c.id), 0) from TaskChange c")
+    long findMaxId();
+
+    /**
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from TaskChange c where c.changedAt < :before")
+    int deleteChangedBefore(@Param("before") OffsetDateTime before);
+}
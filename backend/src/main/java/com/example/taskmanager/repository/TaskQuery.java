@@ -0,0 +1,136 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.entity.TaskEntity;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Criteria for listing tasks.
+ *
+ * @param completed       filter by completion status, or null for all tasks
+ * @param sort            sort order on entity properties; ties are always broken by id
+ * @param limit           maximum number of tasks to return, or null for no limit
+ * @param includeArchived also return tasks the archiver has moved out of the hot table
+ * @param dueFrom         only tasks due at or after this time, or null for no lower bound
+ * @param dueTo           only tasks due before this time, or null for no upper bound; with
+ *                        either bound set, tasks without a due date are excluded
+ * @param fields          entity properties the caller needs, or null for all of them; engines
+ *                        may leave the other properties unset (see {@link #selectedFields()})
+ */
+public record TaskQuery(Boolean completed, Sort sort, Integer limit, boolean includeArchived,
+                        OffsetDateTime dueFrom, OffsetDateTime dueTo, Set<String> fields) {
+
+    public TaskQuery {
+        sort = sort != null ? sort : Sort.unsorted();
+        limit = limit != null && limit > 0 ? limit : null;
+        fields = fields != null ? Set.copyOf(fields) : null;
+    }
+
+    public TaskQuery(Boolean completed, Sort sort, Integer limit, boolean includeArchived,
+                     OffsetDateTime dueFrom, OffsetDateTime dueTo) {
+        this(completed, sort, limit, includeArchived, dueFrom, dueTo, null);
+    }
+
+    public TaskQuery(Boolean completed, Sort sort, Integer limit, boolean includeArchived) {
+        this(completed, sort, limit, includeArchived, null, null);
+    }
+
+    public TaskQuery(Boolean completed, Sort sort, Integer limit) {
+        this(completed, sort, limit, false);
+    }
+
+    public boolean hasDueRange() {
+        return dueFrom != null || dueTo != null;
+    }
+
+    /**
+     * Whether a due date falls in the query's due range; always true without one.
+     */
+    public boolean isDueInRange(OffsetDateTime dueDate) {
+        if (!hasDueRange()) {
+            return true;
+        }
+        return dueDate != null
+                && (dueFrom == null || !dueDate.isBefore(dueFrom))
+                && (dueTo == null || dueDate.isBefore(dueTo));
+    }
+
+    /**
+     * The same filters without sort order, limit and field selection, e.g.
+     * for counting.
+     */
+    public TaskQuery unlimited() {
+        return new TaskQuery(completed, Sort.unsorted(), null, includeArchived, dueFrom, dueTo);
+    }
+
+    /**
+     * Properties an engine must populate for a query with fields: the
+     * requested ones plus id and the sort keys, which in-memory sorts and
+     * merges compare on.
+     */
+    public Set<String> selectedFields() {
+        Set<String> selected = new LinkedHashSet<>();
+        for (Sort.Order order : stableSort()) {
+            selected.add(order.getProperty());
+        }
+        selected.addAll(fields);
+        return selected;
+    }
+
+    /**
+     * The requested sort with explicit null ordering (missing values sort
+     * lowest) and id appended as the final tiebreaker, so every engine returns
+     * the same stable order.
+     */
+    public Sort stableSort() {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(order.isAscending() ? order.nullsFirst() : order.nullsLast());
+        }
+        orders.add(Sort.Order.asc("id"));
+        return Sort.by(orders);
+    }
+
+    /**
+     * Comparator matching the SQL ORDER BY the JPA engine runs for
+     * {@link #stableSort()}, including its null ordering, for engines and
+     * merges that sort in memory.
+     */
+    public Comparator<TaskEntity> stableComparator() {
+        Comparator<TaskEntity> comparator = null;
+        for (Sort.Order order : stableSort()) {
+            Comparator<TaskEntity> next = comparator(order);
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private static Comparator<TaskEntity> comparator(Sort.Order order) {
+        Function<TaskEntity, Comparable<?>> key = switch (order.getProperty()) {
+            case "id" -> TaskEntity::getId;
+            case "priority" -> task -> task.getPriority() != null ? task.getPriority().getRank() : null;
+            case "dueDate" -> TaskEntity::getDueDate;
+            case "createdAt" -> TaskEntity::getCreatedAt;
+            case "updatedAt" -> TaskEntity::getUpdatedAt;
+            case "title" -> TaskEntity::getTitle;
+            default -> throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+        };
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Comparator<Comparable> values = order.isAscending()
+                ? Comparator.<Comparable>naturalOrder()
+                : Comparator.<Comparable>reverseOrder();
+        boolean nullsLast = order.getNullHandling() == Sort.NullHandling.NULLS_LAST
+                || (order.getNullHandling() == Sort.NullHandling.NATIVE && order.isDescending());
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Comparator<TaskEntity> comparator = Comparator.comparing((Function) key,
+                nullsLast ? Comparator.nullsLast(values) : Comparator.nullsFirst(values));
+        return comparator;
+    }
+}
@@ -1,13 +1,116 @@
 package com.example.taskmanager.repository;
 
 import com.example.taskmanager.entity.TaskEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
 
-    List<TaskEntity> findByCompleted(Boolean completed);
+    List<TaskEntity> findByCompleted(Boolean completed, Sort sort);
+
+    // Returning a List rather than a Page skips the count query
+    List<TaskEntity> findByCompleted(Boolean completed, Pageable pageable);
+
+    List<TaskEntity> findAllBy(Pageable pageable);
+
+    long countByCompleted(Boolean completed);
+
+    /**
+     * Tasks due in [from, to), optionally filtered by completion, using the
+     * due_date indexes; sort and limit come from the pageable.
+     */
+    @Query("select t from TaskEntity t where t.dueDate >= :from and t.dueDate < :to "
+            + "and (:completed is null or t.completed = :completed)")
+    List<TaskEntity> findDueBetween(@Param("completed") Boolean completed, @Param("from") OffsetDateTime from,
+                                    @Param("to") OffsetDateTime to, Pageable pageable);
+
+    @Query("select count(t) from TaskEntity t where t.dueDate >= :from and t.dueDate < :to "
+            + "and (:completed is null or t.completed = :completed)")
+    long countDueBetween(@Param("completed") Boolean completed, @Param("from") OffsetDateTime from,
+                         @Param("to") OffsetDateTime to);
+
+    /**
+     * Tasks due in [from, to) grouped by 15-minute slot of their due date, as
+     * rows of [slot (epoch seconds / 900), count], in one aggregated index scan.
+     * Every time zone offset is a multiple of 15 minutes, so each slot falls
+     * within a single calendar day in any zone.
+     */
+    @Query("select floor(extract(epoch from t.dueDate) / 900), count(t) from TaskEntity t "
+            + "where t.dueDate >= :from and t.dueDate < :to and (:completed is null or t.completed = :completed) "
+            + "group by floor(extract(epoch from t.dueDate) / 900)")
+    List<Object[]> countDueBySlot(@Param("completed") Boolean completed, @Param("from") OffsetDateTime from,
+                                  @Param("to") OffsetDateTime to);
+
+    /**
+     * Delete with a single statement instead of loading the entity first.
+     *
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from TaskEntity t where t.id = :id")
+    int deleteTaskById(@Param("id") Long id);
+
+    /**
+     * The task for read-modify-write, its row locked until the transaction
+     * ends so the archiver can't move it to the archive in between.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TaskEntity t where t.id = :id")
+    Optional<TaskEntity> findForUpdateById(@Param("id") Long id);
+
+    /**
+     * Ids of completed tasks last updated before the cutoff, locked so they
+     * can't change between being copied to the archive and deleted.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id from TaskEntity t where t.completed = true and t.updatedAt < :before order by t.id")
+    List<Long> findArchivableIds(@Param("before") OffsetDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TaskEntity t where t.id in :ids")
+    int deleteTasksByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Move an archived task back into the hot table, keeping its id.
+     *
+     * @return the number of restored rows
+     */
+    @Modifying
+    @Query("insert into TaskEntity (id, title, description, completed, priority, dueDate, createdAt, updatedAt) "
+            + "select a.id, a.title, a.description, a.completed, a.priority, a.dueDate, a.createdAt, a.updatedAt "
+            + "from ArchivedTaskEntity a where a.id = :id")
+    int restoreFromArchive(@Param("id") Long id);
+
+    @Query("select coalesce(max(t.id), 0) from TaskEntity t")
+    long findMaxId();
+
+    /**
+     * Raise open tasks in the id range that are due by the given time to the
+     * given priority, in one statement; tasks already at or above it are
+     * left alone, so repeating the update is harmless.
+     *
+     * @return the number of escalated tasks
+     */
+    @Modifying
+    @Query("update TaskEntity t set t.priority = :priority, t.updatedAt = :now "
+            + "where t.id between :fromId and :toId and t.completed = false and t.dueDate <= :dueBefore "
+            + "and (t.priority is null or t.priority < :priority)")
+    int escalatePriority(@Param("fromId") long fromId, @Param("toId") long toId,
+                         @Param("priority") TaskEntity.Priority priority,
+                         @Param("dueBefore") OffsetDateTime dueBefore, @Param("now") OffsetDateTime now);
 }
@@ -0,0 +1,38 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.entity.TaskEntity;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+
+/**
+ * Maps a row of tasks (or tasks_archive) columns, selected in {@link #COLUMNS}
+ * order, to a detached TaskEntity. Stateless, so one instance is shared.
+ */
+final class TaskRowMapper implements RowMapper<TaskEntity> {
+
+    static final TaskRowMapper INSTANCE = new TaskRowMapper();
+
+    static final String COLUMNS = "id, title, description, completed, priority, due_date, created_at, updated_at";
+
+    private TaskRowMapper() {
+    }
+
+    @Override
+    public TaskEntity mapRow(ResultSet rs, int rowNum) throws SQLException {
+        int rank = rs.getInt(5);
+        TaskEntity.Priority priority = rs.wasNull() ? null : TaskEntity.Priority.fromRank(rank);
+        return TaskEntity.builder()
+                .id(rs.getLong(1))
+                .title(rs.getString(2))
+                .description(rs.getString(3))
+                .completed(rs.getBoolean(4))
+                .priority(priority)
+                .dueDate(rs.getObject(6, OffsetDateTime.class))
+                .createdAt(rs.getObject(7, OffsetDateTime.class))
+                .updatedAt(rs.getObject(8, OffsetDateTime.class))
+                .build();
+    }
+}
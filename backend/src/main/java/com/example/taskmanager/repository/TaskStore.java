@@ -0,0 +1,149 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.entity.TaskEntity;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Storage engine used by TaskService.
+ *
+ * The engine is selected with the task.store property: "jpa" (default) goes
+ * through TaskRepository, "memory" keeps tasks in the in-process
+ * {@link com.example.taskmanager.repository.memory.InMemoryTaskStore}.
+ *
+ * Engines may keep an archive of old completed tasks apart from the hot set
+ * that list queries scan; the archive methods default to an engine without
+ * one.
+ */
+public interface TaskStore {
+
+    /**
+     * Tasks matching the query, in {@link TaskQuery#stableSort()} order and
+     * truncated to its limit.
+     */
+    List<TaskEntity> findTasks(TaskQuery query);
+
+    /**
+     * Exact number of tasks matching the query's filters, ignoring its limit;
+     * engines override this with a real count.
+     */
+    default long count(TaskQuery query) {
+        return findTasks(query.unlimited()).size();
+    }
+
+    /**
+     * Number of tasks matching the query's filters per calendar day of their
+     * due date in the given zone, in day order; days without tasks are absent.
+     * The query should have a due range; sort and limit are ignored.
+     */
+    default SortedMap<LocalDate, Long> countByDueDay(TaskQuery query, ZoneId zone) {
+        SortedMap<LocalDate, Long> counts = new TreeMap<>();
+        for (TaskEntity task : findTasks(query.unlimited())) {
+            if (task.getDueDate() != null) {
+                counts.merge(task.getDueDate().atZoneSameInstant(zone).toLocalDate(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Lookup of a hot task to modify or delete in the caller's transaction;
+     * engines with an archive lock it against being archived meanwhile.
+     */
+    Optional<TaskEntity> findById(long id);
+
+    /**
+     * Read-only lookup of a task in the hot set or the archive. The result
+     * is not managed and must not be modified or passed to {@link #save}.
+     */
+    default Optional<TaskEntity> readById(long id) {
+        return findById(id).or(() -> findArchivedById(id));
+    }
+
+    /**
+     * Read-only lookup of several tasks in the hot set or the archive, under
+     * the same terms as {@link #readById}; engines override this where one
+     * query for all ids beats a lookup per id.
+     *
+     * @return the tasks found, keyed by id; ids without a task are absent
+     */
+    default Map<Long, TaskEntity> readByIds(Collection<Long> ids) {
+        Map<Long, TaskEntity> tasks = new HashMap<>();
+        for (Long id : ids) {
+            readById(id).ifPresent(task -> tasks.put(id, task));
+        }
+        return tasks;
+    }
+
+    /**
+     * Insert a task without an id, or update the task with the given id.
+     *
+     * @return the stored task, with id and timestamps populated
+     */
+    TaskEntity save(TaskEntity task);
+
+    /**
+     * Insert a batch of new tasks; engines override this where batching beats
+     * one save per task.
+     */
+    default void saveAll(List<TaskEntity> tasks) {
+        tasks.forEach(this::save);
+    }
+
+    /**
+     * Delete a task, whether it is in the hot set or the archive.
+     *
+     * @return true if a task was deleted, false if no task had the given id
+     */
+    boolean deleteById(long id);
+
+    default Optional<TaskEntity> findArchivedById(long id) {
+        return Optional.empty();
+    }
+
+    /**
+     * Move one batch of completed tasks last updated before the cutoff into
+     * the archive.
+     *
+     * @return the number of archived tasks; fewer than batchSize once none are left
+     */
+    default int archiveCompleted(OffsetDateTime updatedBefore, int batchSize) {
+        return 0;
+    }
+
+    /**
+     * Move an archived task back into the hot set, e.g. before updating it.
+     *
+     * @return the restored task, or empty if no archived task had the given id
+     */
+    default Optional<TaskEntity> restoreArchived(long id) {
+        return Optional.empty();
+    }
+
+    /**
+     * @return the highest task id in the hot set, or 0 if it is empty or the
+     *         engine doesn't support id range jobs
+     */
+    default long maxId() {
+        return 0;
+    }
+
+    /**
+     * Raise open tasks with ids in [fromId, toId] that are due by dueBefore to
+     * at least the given priority. Idempotent.
+     *
+     * @return the number of escalated tasks
+     */
+    default int escalatePriority(long fromId, long toId, TaskEntity.Priority priority, OffsetDateTime dueBefore) {
+        return 0;
+    }
+}
@@ -0,0 +1,447 @@
+package com.example.taskmanager.repository.memory;
+
+import com.example.taskmanager.entity.TaskEntity;
+import com.example.taskmanager.repository.TaskQuery;
+import com.example.taskmanager.repository.TaskStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process task storage engine that bypasses JPA entirely.
+ *
+ * Tasks are stored column-wise in parallel arrays indexed by a dense slot
+ * number, and a primitive {@link LongIntHashMap} maps task ids to slots.
+ * Priority and completion are packed together into one flag byte, and
+ * timestamps are stored as epoch microseconds in UTC. Deleting a task moves
+ * the last slot into the hole, so the columns stay dense.
+ *
+ * List queries are sorted in memory after the scan with a comparator that
+ * mirrors the JPA engine's ORDER BY, so both engines return the same order.
+ *
+ * Two secondary indexes are maintained: a bit set of completed slots and a
+ * sorted map from due date to task ids.
+ *
+ * A StampedLock guards all state: point lookups try an optimistic read
+ * first, scans take the read lock and writes take the write lock.
+ *
+ * Enable with task.store=memory. Data lives only as long as the process.
+ */
+@Component
+@ConditionalOnProperty(name = "task.store", havingValue = "memory")
+public class InMemoryTaskStore implements TaskStore {
+
+    private static final int PRIORITY_MASK = 0b0011;
+    private static final int COMPLETED_BIT = 0b0100;
+    private static final int DUE_DATE_BIT = 0b1000;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+    private final LongIntHashMap slotsById = new LongIntHashMap(INITIAL_CAPACITY);
+    private final BitSet completedSlots = new BitSet();
+    private final TreeMap<Long, long[]> idsByDueDate = new TreeMap<>();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private long[] dueDates = new long[INITIAL_CAPACITY];
+    private long[] createdAts = new long[INITIAL_CAPACITY];
+    private long[] updatedAts = new long[INITIAL_CAPACITY];
+    private int size;
+    private long lastId;
+
+    @Override
+    public List<TaskEntity> findTasks(TaskQuery query) {
+        List<TaskEntity> tasks;
+        long stamp = lock.readLock();
+        try {
+            if (query.hasDueRange()) {
+                tasks = findDueInRange(query);
+            } else if (query.completed() == null) {
+                tasks = new ArrayList<>(size);
+                for (int slot = 0; slot < size; slot++) {
+                    tasks.add(materialize(slot));
+                }
+            } else {
+                boolean completed = query.completed();
+                tasks = new ArrayList<>();
+                int slot = completed ? completedSlots.nextSetBit(0) : completedSlots.nextClearBit(0);
+                while (slot >= 0 && slot < size) {
+                    tasks.add(materialize(slot));
+                    slot = completed ? completedSlots.nextSetBit(slot + 1) : completedSlots.nextClearBit(slot + 1);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        tasks.sort(query.stableComparator());
+        if (query.limit() != null && query.limit() < tasks.size()) {
+            tasks = new ArrayList<>(tasks.subList(0, query.limit()));
+        }
+        return tasks;
+    }
+
+    /**
+     * Walk the due date index over the query's range; caller holds the read lock.
+     */
+    private List<TaskEntity> findDueInRange(TaskQuery query) {
+        long from = query.dueFrom() != null ? toMicros(query.dueFrom()) : Long.MIN_VALUE;
+        long to = query.dueTo() != null ? toMicros(query.dueTo()) : Long.MAX_VALUE;
+        List<TaskEntity> tasks = new ArrayList<>();
+        if (from >= to) {
+            return tasks;
+        }
+        for (long[] bucket : idsByDueDate.subMap(from, true, to, false).values()) {
+            for (long id : bucket) {
+                int slot = slotsById.get(id);
+                if (query.completed() == null || completedSlots.get(slot) == query.completed()) {
+                    tasks.add(materialize(slot));
+                }
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public long count(TaskQuery query) {
+        if (query.hasDueRange()) {
+            return findTasks(query.unlimited()).size();
+        }
+        long stamp = lock.readLock();
+        try {
+            if (query.completed() == null) {
+                return size;
+            }
+            int completedCount = completedSlots.cardinality();
+            return query.completed() ? completedCount : size - completedCount;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Optional<TaskEntity> findById(long id) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                int slot = slotsById.get(id);
+                TaskEntity task = slot >= 0 && slot < size ? materialize(slot) : null;
+                if (lock.validate(stamp)) {
+                    return Optional.ofNullable(task);
+                }
+            } catch (RuntimeException e) {
+                // Raced with a resize or delete; retry under the read lock
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            int slot = slotsById.get(id);
+            return slot >= 0 ? Optional.of(materialize(slot)) : Optional.empty();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * All ids under one read lock hold instead of one lookup each.
+     */
+    @Override
+    public Map<Long, TaskEntity> readByIds(Collection<Long> ids) {
+        Map<Long, TaskEntity> tasks = new HashMap<>();
+        long stamp = lock.readLock();
+        try {
+            for (Long id : ids) {
+                int slot = slotsById.get(id);
+                if (slot >= 0) {
+                    tasks.put(id, materialize(slot));
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return tasks;
+    }
+
+    @Override
+    public TaskEntity save(TaskEntity task) {
+        long now = toMicros(OffsetDateTime.now());
+        long stamp = lock.writeLock();
+        try {
+            int slot = task.getId() != null ? slotsById.get(task.getId()) : LongIntHashMap.MISSING;
+            if (slot >= 0) {
+                unindexDueDate(slot);
+            } else {
+                long id = task.getId() != null ? task.getId() : lastId + 1;
+                lastId = Math.max(lastId, id);
+                slot = allocateSlot(id);
+                createdAts[slot] = now;
+                if (task.getCompleted() == null) {
+                    task.setCompleted(false);
+                }
+                if (task.getPriority() == null) {
+                    task.setPriority(TaskEntity.Priority.MEDIUM);
+                }
+            }
+
+            titles[slot] = task.getTitle();
+            descriptions[slot] = task.getDescription();
+            flags[slot] = encodeFlags(task);
+            dueDates[slot] = task.getDueDate() != null ? toMicros(task.getDueDate()) : 0L;
+            updatedAts[slot] = now;
+            completedSlots.set(slot, Boolean.TRUE.equals(task.getCompleted()));
+            indexDueDate(slot);
+
+            return materialize(slot);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotsById.get(id);
+            if (slot < 0) {
+                return false;
+            }
+            unindexDueDate(slot);
+            slotsById.remove(id);
+
+            int last = --size;
+            if (slot != last) {
+                moveSlot(last, slot);
+            }
+            titles[last] = null;
+            descriptions[last] = null;
+            completedSlots.clear(last);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Insert or replace a task verbatim, keeping its id and timestamps. Used to
+     * rebuild the store from a durable copy on startup.
+     */
+    public void restore(TaskEntity task) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotsById.get(task.getId());
+            if (slot >= 0) {
+                unindexDueDate(slot);
+            } else {
+                slot = allocateSlot(task.getId());
+            }
+            lastId = Math.max(lastId, task.getId());
+
+            titles[slot] = task.getTitle();
+            descriptions[slot] = task.getDescription();
+            flags[slot] = encodeFlags(task);
+            dueDates[slot] = task.getDueDate() != null ? toMicros(task.getDueDate()) : 0L;
+            createdAts[slot] = toMicros(task.getCreatedAt());
+            updatedAts[slot] = task.getUpdatedAt() != null ? toMicros(task.getUpdatedAt()) : createdAts[slot];
+            completedSlots.set(slot, Boolean.TRUE.equals(task.getCompleted()));
+            indexDueDate(slot);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Visit every task under the read lock, without building a list. Writes
+     * wait until the visit completes.
+     */
+    public void forEach(Consumer<TaskEntity> visitor) {
+        long stamp = lock.readLock();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                visitor.accept(materialize(slot));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Independent point-in-time copy, taken under the read lock; only the
+     * columns and indexes are copied, the strings are shared.
+     */
+    public InMemoryTaskStore copy() {
+        InMemoryTaskStore copy = new InMemoryTaskStore();
+        long stamp = lock.readLock();
+        try {
+            int capacity = Math.max(size, INITIAL_CAPACITY);
+            copy.ids = Arrays.copyOf(ids, capacity);
+            copy.titles = Arrays.copyOf(titles, capacity);
+            copy.descriptions = Arrays.copyOf(descriptions, capacity);
+            copy.flags = Arrays.copyOf(flags, capacity);
+            copy.dueDates = Arrays.copyOf(dueDates, capacity);
+            copy.createdAts = Arrays.copyOf(createdAts, capacity);
+            copy.updatedAts = Arrays.copyOf(updatedAts, capacity);
+            copy.completedSlots.or(completedSlots);
+            // Buckets are replaced on change, never modified, so they can be shared
+            copy.idsByDueDate.putAll(idsByDueDate);
+            copy.size = size;
+            copy.lastId = lastId;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        for (int slot = 0; slot < copy.size; slot++) {
+            copy.slotsById.put(copy.ids[slot], slot);
+        }
+        return copy;
+    }
+
+    /**
+     * Highest id ever assigned, including ids of deleted tasks.
+     */
+    public long lastId() {
+        long stamp = lock.readLock();
+        try {
+            return lastId;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Make sure ids up to and including the given one are never reassigned.
+     */
+    public void reserveIds(long upTo) {
+        long stamp = lock.writeLock();
+        try {
+            lastId = Math.max(lastId, upTo);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int allocateSlot(long id) {
+        if (size == ids.length) {
+            int capacity = ids.length << 1;
+            ids = Arrays.copyOf(ids, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            dueDates = Arrays.copyOf(dueDates, capacity);
+            createdAts = Arrays.copyOf(createdAts, capacity);
+            updatedAts = Arrays.copyOf(updatedAts, capacity);
+        }
+        int slot = size++;
+        ids[slot] = id;
+        slotsById.put(id, slot);
+        return slot;
+    }
+
+    private void moveSlot(int from, int to) {
+        ids[to] = ids[from];
+        titles[to] = titles[from];
+        descriptions[to] = descriptions[from];
+        flags[to] = flags[from];
+        dueDates[to] = dueDates[from];
+        createdAts[to] = createdAts[from];
+        updatedAts[to] = updatedAts[from];
+        completedSlots.set(to, completedSlots.get(from));
+        slotsById.put(ids[to], to);
+    }
+
+    private void indexDueDate(int slot) {
+        if ((flags[slot] & DUE_DATE_BIT) == 0) {
+            return;
+        }
+        long id = ids[slot];
+        idsByDueDate.merge(dueDates[slot], new long[] {id}, (existing, added) -> {
+            long[] merged = Arrays.copyOf(existing, existing.length + 1);
+            merged[existing.length] = id;
+            return merged;
+        });
+    }
+
+    private void unindexDueDate(int slot) {
+        if ((flags[slot] & DUE_DATE_BIT) == 0) {
+            return;
+        }
+        long id = ids[slot];
+        long[] bucket = idsByDueDate.get(dueDates[slot]);
+        if (bucket == null) {
+            return;
+        }
+        if (bucket.length == 1) {
+            idsByDueDate.remove(dueDates[slot]);
+            return;
+        }
+        long[] remaining = new long[bucket.length - 1];
+        int i = 0;
+        for (long candidate : bucket) {
+            if (candidate != id && i < remaining.length) {
+                remaining[i++] = candidate;
+            }
+        }
+        idsByDueDate.put(dueDates[slot], remaining);
+    }
+
+    private TaskEntity materialize(int slot) {
+        int flag = flags[slot];
+        return TaskEntity.builder()
+                .id(ids[slot])
+                .title(titles[slot])
+                .description(descriptions[slot])
+                .completed((flag & COMPLETED_BIT) != 0)
+                .priority((flag & PRIORITY_MASK) != 0 ? TaskEntity.Priority.fromRank(flag & PRIORITY_MASK) : null)
+                .dueDate((flag & DUE_DATE_BIT) != 0 ? fromMicros(dueDates[slot]) : null)
+                .createdAt(fromMicros(createdAts[slot]))
+                .updatedAt(fromMicros(updatedAts[slot]))
+                .build();
+    }
+
+    private static byte encodeFlags(TaskEntity task) {
+        int flag = task.getPriority() != null ? task.getPriority().getRank() : 0;
+        if (Boolean.TRUE.equals(task.getCompleted())) {
+            flag |= COMPLETED_BIT;
+        }
+        if (task.getDueDate() != null) {
+            flag |= DUE_DATE_BIT;
+        }
+        return (byte) flag;
+    }
+
+    static long toMicros(OffsetDateTime dateTime) {
+        Instant instant = dateTime.toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    static OffsetDateTime fromMicros(long micros) {
+        Instant instant = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                Math.floorMod(micros, 1_000_000L) * 1_000L);
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
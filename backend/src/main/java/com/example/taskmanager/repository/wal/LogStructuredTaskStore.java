@@ -0,0 +1,395 @@
+package com.example.taskmanager.repository.wal;
+
+import com.example.taskmanager.entity.TaskEntity;
+import com.example.taskmanager.repository.TaskQuery;
+import com.example.taskmanager.repository.TaskStore;
+import com.example.taskmanager.repository.memory.InMemoryTaskStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Durable task storage engine: an in-memory store backed by a write-ahead log.
+ *
+ * Reads are served from an {@link InMemoryTaskStore}. Every write is
+ * appended to the {@link WriteAheadLog} under one lock and applied to the
+ * in-memory store by the log writer once its record has been fsynced, in log
+ * order, before the caller returns (group commit shares fsyncs between
+ * concurrent writers). A write is therefore never visible before it is
+ * durable, and a write whose record can't be fsynced fails without ever
+ * having been visible. Writes that are logged but not yet applied are kept
+ * in a pending map, so that later writes (ids, existence checks) see them.
+ *
+ * Once the current log segment grows past task.wal.snapshot-min-log-bytes,
+ * a background thread compacts the state into a snapshot and deletes the
+ * segments it covers. Writes pause only while the log is rotated and the
+ * in-memory columns are copied; the copy is streamed out afterwards. Recovery loads the newest complete snapshot through memory-mapped
+ * reads and replays only the log segments written after it, so restart time
+ * is proportional to snapshot size plus log tail. A torn record at the end
+ * of the last segment (crash during a write) is truncated away.
+ *
+ * Enable with task.store=wal; files live in task.wal.directory.
+ */
+@Component
+@ConditionalOnProperty(name = "task.store", havingValue = "wal")
+public class LogStructuredTaskStore implements TaskStore, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LogStructuredTaskStore.class);
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("wal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.dat");
+
+    private final Path directory;
+    private final long snapshotMinLogBytes;
+    private final InMemoryTaskStore memory = new InMemoryTaskStore();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Logged but not yet applied writes by task id; a null task is a delete
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService compactor;
+    private final WriteAheadLog wal;
+    // Guarded by writeLock
+    private long nextId;
+
+    public LogStructuredTaskStore(@Value("${task.wal.directory:data/wal}") String directory,
+                                  @Value("${task.wal.snapshot-check-interval-seconds:60}") long checkIntervalSeconds,
+                                  @Value("${task.wal.snapshot-min-log-bytes:67108864}") long snapshotMinLogBytes)
+            throws IOException {
+        this.directory = Paths.get(directory);
+        this.snapshotMinLogBytes = snapshotMinLogBytes;
+
+        Files.createDirectories(this.directory);
+        this.wal = new WriteAheadLog(this.directory, recover());
+        this.nextId = memory.lastId() + 1;
+
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-wal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::compactIfNeeded, checkIntervalSeconds, checkIntervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    @Override
+    public List<TaskEntity> findTasks(TaskQuery query) {
+        return memory.findTasks(query);
+    }
+
+    @Override
+    public long count(TaskQuery query) {
+        return memory.count(query);
+    }
+
+    @Override
+    public Optional<TaskEntity> findById(long id) {
+        return memory.findById(id);
+    }
+
+    @Override
+    public Map<Long, TaskEntity> readByIds(Collection<Long> ids) {
+        return memory.readByIds(ids);
+    }
+
+    @Override
+    public TaskEntity save(TaskEntity task) {
+        Pending put;
+        CompletableFuture<Void> durable;
+        writeLock.lock();
+        try {
+            put = prepare(task);
+            durable = append(put);
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(durable, List.of(put));
+        return put.task;
+    }
+
+    /**
+     * Appends the whole batch under one lock hold and waits only for the last
+     * record: the log is written in order, so it being durable implies the
+     * rest are, and the writer can fsync the batch as one group.
+     */
+    @Override
+    public void saveAll(List<TaskEntity> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<Pending> puts = new ArrayList<>(tasks.size());
+        CompletableFuture<Void> durable = null;
+        writeLock.lock();
+        try {
+            for (TaskEntity task : tasks) {
+                Pending put = prepare(task);
+                puts.add(put);
+                durable = append(put);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(durable, puts);
+    }
+
+    @Override
+    public boolean deleteById(long id) {
+        Pending delete = new Pending(id, null);
+        CompletableFuture<Void> durable;
+        writeLock.lock();
+        try {
+            if (current(id) == null) {
+                return false;
+            }
+            durable = append(delete);
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(durable, List.of(delete));
+        return true;
+    }
+
+    /**
+     * Write a snapshot of the current state and drop the log segments it
+     * covers. Writes wait only for the rotation and the in-memory copy.
+     */
+    public synchronized void snapshot() throws IOException {
+        long started = System.nanoTime();
+        long segment;
+        InMemoryTaskStore state;
+        writeLock.lock();
+        try {
+            // Rotating applies every record logged so far, so the copy is the state as of the new segment
+            segment = wal.rotate().join();
+            state = memory.copy();
+        } finally {
+            writeLock.unlock();
+        }
+        SnapshotFile.write(SnapshotFile.path(directory, segment), state);
+        deleteFilesBefore(segment);
+        log.info("Wrote snapshot of {} tasks in {} ms", state.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        compactor.shutdownNow();
+        wal.close();
+    }
+
+    private void compactIfNeeded() {
+        if (wal.segmentBytes() < snapshotMinLogBytes) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Snapshot failed, the log will keep growing until the next attempt", e);
+        }
+    }
+
+    /**
+     * Rebuild the in-memory state from the newest snapshot and the log tail.
+     *
+     * @return sequence number for the next log segment
+     */
+    private long recover() throws IOException {
+        long started = System.nanoTime();
+        List<Long> snapshots = listSequences(SNAPSHOT_FILE);
+        List<Long> segments = listSequences(SEGMENT_FILE);
+
+        // Snapshots only appear through an atomic rename once complete, and the
+        // segments before the newest one are gone, so there is nothing to fall back to
+        long snapshotSegment = 0;
+        long restored = 0;
+        if (!snapshots.isEmpty()) {
+            snapshotSegment = snapshots.get(snapshots.size() - 1);
+            restored = SnapshotFile.load(SnapshotFile.path(directory, snapshotSegment), memory);
+        }
+
+        long replayed = 0;
+        long nextSegment = Math.max(1, snapshotSegment);
+        for (int i = 0; i < segments.size(); i++) {
+            long segment = segments.get(i);
+            if (segment < snapshotSegment) {
+                continue;
+            }
+            replayed += replay(segment, i == segments.size() - 1);
+            nextSegment = segment + 1;
+        }
+
+        deleteFilesBefore(snapshotSegment);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path leftover : files.filter(path -> path.toString().endsWith(".tmp")).toList()) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+        log.info("Recovered {} tasks from snapshot and {} log records in {} ms", restored, replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return nextSegment;
+    }
+
+    private long replay(long segment, boolean last) throws IOException {
+        Path path = WriteAheadLog.segmentPath(directory, segment);
+        long replayed = 0;
+        long validBytes;
+        long size;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedRecordReader reader = new MappedRecordReader(channel, 0);
+            ByteBuffer payload;
+            while ((payload = reader.next()) != null) {
+                byte type = payload.get();
+                if (type == TaskRecordCodec.PUT) {
+                    memory.restore(TaskRecordCodec.readPut(payload));
+                } else if (type == TaskRecordCodec.DELETE) {
+                    memory.deleteById(payload.getLong());
+                } else {
+                    throw new IOException("Unexpected record type " + type + " in " + path);
+                }
+                replayed++;
+            }
+            validBytes = reader.position();
+            size = reader.size();
+        }
+
+        if (validBytes < size) {
+            if (!last) {
+                throw new IOException("Log segment " + path + " is corrupt at offset " + validBytes);
+            }
+            log.warn("Truncating torn tail of {} at offset {} ({} bytes)", path, validBytes, size - validBytes);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validBytes);
+                channel.force(true);
+            }
+        }
+        return replayed;
+    }
+
+    private void deleteFilesBefore(long segment) throws IOException {
+        for (long sequence : listSequences(SEGMENT_FILE)) {
+            if (sequence < segment) {
+                Files.deleteIfExists(WriteAheadLog.segmentPath(directory, sequence));
+            }
+        }
+        for (long sequence : listSequences(SNAPSHOT_FILE)) {
+            if (sequence < segment) {
+                Files.deleteIfExists(SnapshotFile.path(directory, sequence));
+            }
+        }
+    }
+
+    private List<Long> listSequences(Pattern pattern) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> pattern.matcher(path.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * The task as saved, with the id, defaults and timestamps the in-memory
+     * store would assign, registered as pending; caller holds the write lock.
+     */
+    private Pending prepare(TaskEntity task) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+        TaskEntity existing = task.getId() != null ? current(task.getId()) : null;
+        long id = task.getId() != null ? task.getId() : nextId;
+        nextId = Math.max(nextId, id + 1);
+        TaskEntity saved = TaskEntity.builder()
+                .id(id)
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .completed(Boolean.TRUE.equals(task.getCompleted()))
+                .priority(existing == null && task.getPriority() == null ? TaskEntity.Priority.MEDIUM
+                        : task.getPriority())
+                .dueDate(task.getDueDate() != null
+                        ? task.getDueDate().withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS)
+                        : null)
+                .createdAt(existing != null ? existing.getCreatedAt() : now)
+                .updatedAt(now)
+                .build();
+        return new Pending(id, saved);
+    }
+
+    /**
+     * Latest state of a task including pending writes; caller holds the write lock.
+     */
+    private TaskEntity current(long id) {
+        Pending write = pending.get(id);
+        return write != null ? write.task : memory.findById(id).orElse(null);
+    }
+
+    /**
+     * Append a pending write to the log; the log writer applies it to the
+     * in-memory store once durable. Caller holds the write lock.
+     */
+    private CompletableFuture<Void> append(Pending write) {
+        pending.put(write.id, write);
+        ByteBuffer record = write.task != null ? TaskRecordCodec.put(write.task) : TaskRecordCodec.delete(write.id);
+        return wal.append(record, () -> {
+            if (write.task != null) {
+                memory.restore(write.task);
+            } else {
+                memory.deleteById(write.id);
+            }
+            pending.remove(write.id, write);
+        });
+    }
+
+    private void awaitDurable(CompletableFuture<Void> durable, List<Pending> writes) {
+        try {
+            durable.join();
+        } catch (CompletionException e) {
+            // Never applied; later writes to the same tasks fail too, as the log rejects everything after a failure
+            writes.forEach(write -> pending.remove(write.id, write));
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A logged write; identity matters, so a later write to the same task is
+     * never removed in its place.
+     */
+    private static final class Pending {
+        final long id;
+        final TaskEntity task;
+
+        Pending(long id, TaskEntity task) {
+            this.id = id;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.taskmanager.repository.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Iterates framed records of a snapshot or log file through memory-mapped
+ * windows.
+ *
+ * Files are mapped read-only in windows of at most 256 MB, so files larger
+ * than a single mapping can be read; when the next frame crosses the end of
+ * the current window, the window is remapped starting at that frame.
+ */
+final class MappedRecordReader {
+
+    private static final long WINDOW_BYTES = 256L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    MappedRecordReader(FileChannel channel, long start) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        map(start);
+    }
+
+    /**
+     * @return the next intact payload, or null at the end of the file or at
+     *         the first torn or corrupted frame
+     */
+    ByteBuffer next() throws IOException {
+        ByteBuffer payload = TaskRecordCodec.nextPayload(window);
+        if (payload != null) {
+            return payload;
+        }
+
+        long position = position();
+        if (position == windowStart || windowStart + window.capacity() >= size) {
+            // Nothing further to map: the frame is truncated or corrupt
+            return null;
+        }
+        map(position);
+        return TaskRecordCodec.nextPayload(window);
+    }
+
+    /**
+     * File offset just past the last frame returned by {@link #next()}.
+     */
+    long position() {
+        return windowStart + window.position();
+    }
+
+    long size() {
+        return size;
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_BYTES, size - start));
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.taskmanager.repository.wal;
+
+import com.example.taskmanager.repository.memory.InMemoryTaskStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compacted snapshot of all tasks.
+ *
+ * snapshot-{segment}.dat holds the state as of the start of log segment
+ * {segment}: a header, one PUT frame per task and an END footer carrying the
+ * task count and the highest assigned id. A snapshot without its footer is
+ * incomplete and is never loaded. Snapshots are written to a temporary file
+ * and atomically renamed into place once fsynced; the directory is fsynced
+ * after the rename, so the snapshot is durable before the segments it
+ * replaces are deleted.
+ */
+final class SnapshotFile {
+
+    private static final int MAGIC = 0x54534E50;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int BUFFER_BYTES = 1024 * 1024;
+
+    private SnapshotFile() {
+    }
+
+    static Path path(Path directory, long segment) {
+        return directory.resolve(String.format("snapshot-%016d.dat", segment));
+    }
+
+    static void write(Path target, InMemoryTaskStore store) throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            buffer.putInt(MAGIC).putInt(VERSION);
+
+            long[] count = {0};
+            try {
+                store.forEach(task -> {
+                    write(channel, buffer, TaskRecordCodec.put(task));
+                    count[0]++;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            write(channel, buffer, TaskRecordCodec.end(count[0], store.lastId()));
+            flush(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        WriteAheadLog.syncDirectory(target.getParent());
+    }
+
+    /**
+     * Load a snapshot into the store through memory-mapped reads.
+     *
+     * @return number of tasks loaded
+     * @throws IOException if the snapshot is incomplete or corrupt
+     */
+    static long load(Path file, InMemoryTaskStore store) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // read the full header
+            }
+            if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != VERSION) {
+                throw new IOException("Not a task snapshot: " + file);
+            }
+
+            MappedRecordReader reader = new MappedRecordReader(channel, HEADER_BYTES);
+            long loaded = 0;
+            ByteBuffer payload;
+            while ((payload = reader.next()) != null) {
+                byte type = payload.get();
+                if (type == TaskRecordCodec.PUT) {
+                    store.restore(TaskRecordCodec.readPut(payload));
+                    loaded++;
+                } else if (type == TaskRecordCodec.END) {
+                    long expected = payload.getLong();
+                    store.reserveIds(payload.getLong());
+                    if (expected != loaded) {
+                        throw new IOException("Snapshot " + file + " has " + loaded + " tasks, expected " + expected);
+                    }
+                    return loaded;
+                } else {
+                    throw new IOException("Unexpected record type " + type + " in snapshot " + file);
+                }
+            }
+            throw new IOException("Snapshot " + file + " is incomplete");
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, ByteBuffer record) {
+        try {
+            if (buffer.remaining() < record.remaining()) {
+                flush(channel, buffer);
+            }
+            if (buffer.remaining() < record.remaining()) {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            } else {
+                buffer.put(record);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.taskmanager.repository.wal;
+
+import com.example.taskmanager.entity.TaskEntity;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary encoding shared by the write-ahead log and snapshot files.
+ *
+ * Every record is framed as [int payload length][int CRC32C of payload][payload]
+ * so a torn or corrupted tail can be detected during recovery. Payloads start
+ * with a type byte:
+ *
+ * - PUT: the complete state of a task after a write (id, timestamps as epoch
+ *   micros, priority rank as a byte, completed as a bit, title, description)
+ * - DELETE: the id of a deleted task
+ * - END: snapshot footer with the task count and the highest assigned id
+ */
+final class TaskRecordCodec {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+    static final byte END = 3;
+
+    static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+
+    private static final int COMPLETED_BIT = 0b01;
+    private static final int DUE_DATE_BIT = 0b10;
+
+    private TaskRecordCodec() {
+    }
+
+    static ByteBuffer put(TaskEntity task) {
+        byte[] title = bytes(task.getTitle());
+        byte[] description = bytes(task.getDescription());
+        int payloadLength = 1 + Long.BYTES * 4 + 2 + 2 * Integer.BYTES + length(title) + length(description);
+
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payloadLength);
+        frame.position(FRAME_HEADER_BYTES);
+        frame.put(PUT);
+        frame.putLong(task.getId());
+        frame.putLong(toMicros(task.getCreatedAt()));
+        frame.putLong(task.getUpdatedAt() != null ? toMicros(task.getUpdatedAt()) : toMicros(task.getCreatedAt()));
+        frame.putLong(task.getDueDate() != null ? toMicros(task.getDueDate()) : 0L);
+        frame.put((byte) (task.getPriority() != null ? task.getPriority().getRank() : 0));
+        int bits = Boolean.TRUE.equals(task.getCompleted()) ? COMPLETED_BIT : 0;
+        frame.put((byte) (task.getDueDate() != null ? bits | DUE_DATE_BIT : bits));
+        putString(frame, title);
+        putString(frame, description);
+        return seal(frame);
+    }
+
+    static ByteBuffer delete(long id) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + 1 + Long.BYTES);
+        frame.position(FRAME_HEADER_BYTES);
+        frame.put(DELETE);
+        frame.putLong(id);
+        return seal(frame);
+    }
+
+    static ByteBuffer end(long count, long lastId) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + 1 + 2 * Long.BYTES);
+        frame.position(FRAME_HEADER_BYTES);
+        frame.put(END);
+        frame.putLong(count);
+        frame.putLong(lastId);
+        return seal(frame);
+    }
+
+    /**
+     * Read the next framed payload from the buffer.
+     *
+     * @return the payload positioned at its type byte, or null if the buffer
+     *         holds no complete, intact frame at its current position (the
+     *         buffer position is left unchanged in that case)
+     */
+    static ByteBuffer nextPayload(ByteBuffer buffer) {
+        if (buffer.remaining() < FRAME_HEADER_BYTES) {
+            return null;
+        }
+        int start = buffer.position();
+        int length = buffer.getInt(start);
+        int crc = buffer.getInt(start + Integer.BYTES);
+        if (length <= 0 || length > buffer.remaining() - FRAME_HEADER_BYTES) {
+            return null;
+        }
+
+        ByteBuffer payload = buffer.slice(start + FRAME_HEADER_BYTES, length);
+        CRC32C checksum = new CRC32C();
+        checksum.update(payload.duplicate());
+        if ((int) checksum.getValue() != crc) {
+            return null;
+        }
+        buffer.position(start + FRAME_HEADER_BYTES + length);
+        return payload;
+    }
+
+    static TaskEntity readPut(ByteBuffer payload) {
+        long id = payload.getLong();
+        long createdAt = payload.getLong();
+        long updatedAt = payload.getLong();
+        long dueDate = payload.getLong();
+        int rank = payload.get();
+        TaskEntity.Priority priority = rank != 0 ? TaskEntity.Priority.fromRank(rank) : null;
+        int bits = payload.get();
+        String title = getString(payload);
+        String description = getString(payload);
+
+        return TaskEntity.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .completed((bits & COMPLETED_BIT) != 0)
+                .priority(priority)
+                .dueDate((bits & DUE_DATE_BIT) != 0 ? fromMicros(dueDate) : null)
+                .createdAt(fromMicros(createdAt))
+                .updatedAt(fromMicros(updatedAt))
+                .build();
+    }
+
+    private static ByteBuffer seal(ByteBuffer frame) {
+        int length = frame.capacity() - FRAME_HEADER_BYTES;
+        CRC32C checksum = new CRC32C();
+        checksum.update(frame.array(), FRAME_HEADER_BYTES, length);
+        frame.putInt(0, length);
+        frame.putInt(Integer.BYTES, (int) checksum.getValue());
+        return frame.clear();
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int length(byte[] value) {
+        return value != null ? value.length : 0;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static long toMicros(OffsetDateTime dateTime) {
+        Instant instant = dateTime.toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static OffsetDateTime fromMicros(long micros) {
+        Instant instant = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                Math.floorMod(micros, 1_000_000L) * 1_000L);
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.taskmanager.repository.wal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Append-only log segment writer with group commit.
+ *
+ * Appends are queued to a single writer thread. Each time it wakes up, the
+ * writer drains everything queued so far, writes it with one gathering write
+ * and issues one fsync for the whole batch before completing the appenders'
+ * futures. Under concurrent load many writes therefore share a single fsync.
+ * Each record can carry an action that the writer runs once the record is
+ * durable and before completing its future, in log order; the store uses it
+ * to make writes visible only once they can no longer be lost.
+ *
+ * Segments are named wal-{sequence}.log; {@link #rotate()} closes the current
+ * segment after flushing it and starts the next one, which is how snapshots
+ * mark the point the log can be truncated to.
+ */
+final class WriteAheadLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private static final int MAX_BATCH = 1024;
+
+    private final Path directory;
+    private final BlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    private FileChannel channel;
+    private long segment;
+    private volatile long segmentBytes;
+    private volatile IOException failure;
+
+    WriteAheadLog(Path directory, long firstSegment) throws IOException {
+        this.directory = directory;
+        openSegment(firstSegment);
+        this.writer = new Thread(this::run, "task-wal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(String.format("wal-%016d.log", segment));
+    }
+
+    /**
+     * Queue a framed record; once it has been fsynced the writer runs
+     * onDurable and then completes the future. If the record can't be
+     * written, onDurable never runs.
+     */
+    CompletableFuture<Void> append(ByteBuffer record, Runnable onDurable) {
+        Command command = new Command(record, onDurable);
+        enqueue(command);
+        return command.done.thenApply(ignored -> null);
+    }
+
+    /**
+     * Fsync a directory so that files created, renamed or deleted in it
+     * survive a crash. Platforms that can't open directories (Windows) don't
+     * need this and are skipped.
+     */
+    static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Flush the current segment and switch to a new one.
+     *
+     * @return future completing with the sequence number of the new segment;
+     *         every record appended before this call is in earlier segments
+     */
+    CompletableFuture<Long> rotate() {
+        Command command = new Command(null, null);
+        enqueue(command);
+        return command.done;
+    }
+
+    long segmentBytes() {
+        return segmentBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Command command = Command.shutdown();
+        enqueue(command);
+        command.done.handle((segment, error) -> null).join();
+    }
+
+    private void enqueue(Command command) {
+        IOException error = failure;
+        if (error != null) {
+            command.done.completeExceptionally(new UncheckedIOException("Write-ahead log is unavailable", error));
+            return;
+        }
+        queue.add(command);
+    }
+
+    private void run() {
+        List<Command> batch = new ArrayList<>(MAX_BATCH);
+        List<Command> unsynced = new ArrayList<>(MAX_BATCH);
+        List<ByteBuffer> buffers = new ArrayList<>(MAX_BATCH);
+
+        while (true) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            for (Command command : batch) {
+                try {
+                    if (command.record != null) {
+                        buffers.add(command.record);
+                        unsynced.add(command);
+                        continue;
+                    }
+
+                    sync(buffers, unsynced);
+                    if (command.shutdown) {
+                        channel.close();
+                        command.done.complete(segment);
+                        return;
+                    }
+                    openSegment(segment + 1);
+                    command.done.complete(segment);
+                } catch (IOException e) {
+                    fail(e, buffers, unsynced);
+                    command.done.completeExceptionally(new UncheckedIOException(e));
+                }
+            }
+
+            try {
+                sync(buffers, unsynced);
+            } catch (IOException e) {
+                fail(e, buffers, unsynced);
+            }
+            batch.clear();
+        }
+    }
+
+    private void sync(List<ByteBuffer> buffers, List<Command> unsynced) throws IOException {
+        if (unsynced.isEmpty()) {
+            return;
+        }
+        ByteBuffer[] pending = buffers.toArray(ByteBuffer[]::new);
+        long written = 0;
+        while (pending[pending.length - 1].hasRemaining()) {
+            written += channel.write(pending);
+        }
+        channel.force(false);
+        segmentBytes += written;
+
+        for (Command command : unsynced) {
+            try {
+                if (command.onDurable != null) {
+                    command.onDurable.run();
+                }
+                command.done.complete(segment);
+            } catch (RuntimeException e) {
+                command.done.completeExceptionally(e);
+            }
+        }
+        unsynced.clear();
+        buffers.clear();
+    }
+
+    private void fail(IOException e, List<ByteBuffer> buffers, List<Command> unsynced) {
+        log.error("Write-ahead log failed, rejecting further writes", e);
+        failure = e;
+        buffers.clear();
+        unsynced.forEach(command -> command.done.completeExceptionally(new UncheckedIOException(e)));
+        unsynced.clear();
+    }
+
+    private void openSegment(long sequence) throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        channel = FileChannel.open(segmentPath(directory, sequence),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        syncDirectory(directory);
+        segment = sequence;
+        segmentBytes = 0;
+    }
+
+    private static final class Command {
+        final ByteBuffer record;
+        final Runnable onDurable;
+        final boolean shutdown;
+        final CompletableFuture<Long> done = new CompletableFuture<>();
+
+        Command(ByteBuffer record, Runnable onDurable) {
+            this(record, onDurable, false);
+        }
+
+        private Command(ByteBuffer record, Runnable onDurable, boolean shutdown) {
+            this.record = record;
+            this.onDurable = onDurable;
+            this.shutdown = shutdown;
+        }
+
+        static Command shutdown() {
+            return new Command(null, null, true);
+        }
+    }
+}
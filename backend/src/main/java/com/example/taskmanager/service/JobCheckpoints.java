@@ -0,0 +1,56 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.entity.JobCheckpoint;
+import com.example.taskmanager.repository.JobCheckpointRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Persistent progress of resumable background jobs; see {@link JobCheckpoint}.
+ * Each method is its own short transaction.
+ */
+@Component
+@Transactional
+public class JobCheckpoints {
+
+    private final JobCheckpointRepository repository;
+
+    public JobCheckpoints(JobCheckpointRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Start a run, resuming an unfinished one.
+     *
+     * @return the last id already processed; the run continues after it
+     */
+    public long start(String name) {
+        JobCheckpoint checkpoint = repository.findById(name).orElseGet(() -> new JobCheckpoint(name));
+        OffsetDateTime now = OffsetDateTime.now();
+        if (checkpoint.isFinished()) {
+            checkpoint.setLastId(0);
+            checkpoint.setFinished(false);
+            checkpoint.setStartedAt(now);
+        }
+        checkpoint.setUpdatedAt(now);
+        repository.save(checkpoint);
+        return checkpoint.getLastId();
+    }
+
+    public void advance(String name, long lastId) {
+        repository.findById(name).ifPresent(checkpoint -> {
+            checkpoint.setLastId(lastId);
+            checkpoint.setUpdatedAt(OffsetDateTime.now());
+        });
+    }
+
+    public void finish(String name, long lastId) {
+        repository.findById(name).ifPresent(checkpoint -> {
+            checkpoint.setLastId(lastId);
+            checkpoint.setFinished(true);
+            checkpoint.setUpdatedAt(OffsetDateTime.now());
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.taskmanager.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves old completed tasks out of the hot tasks table.
+ *
+ * Every task.archive.interval-seconds a background thread archives completed
+ * tasks not updated for task.archive.completed-age-days, in batches of
+ * task.archive.batch-size. Each batch is a separate transaction that locks
+ * only its own rows, with a short pause (task.archive.batch-pause-millis)
+ * between batches, so a large backlog never blocks API writes for long.
+ * Keeping completed tasks out of the hot table keeps its indexes and the
+ * pages list queries touch small enough to stay cached.
+ *
+ * Only engines with an archive (the JPA engine) move anything.
+ */
+@Component
+@ConditionalOnProperty(name = "task.archive.enabled", havingValue = "true")
+public class TaskArchiver implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskService taskService;
+    private final Duration completedAge;
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final Counter archivedTasks;
+    private final ScheduledExecutorService executor;
+
+    public TaskArchiver(TaskService taskService, MeterRegistry meterRegistry,
+                        @Value("${task.archive.completed-age-days:30}") long completedAgeDays,
+                        @Value("${task.archive.batch-size:500}") int batchSize,
+                        @Value("${task.archive.batch-pause-millis:50}") long batchPauseMillis,
+                        @Value("${task.archive.interval-seconds:300}") long intervalSeconds) {
+        this.taskService = taskService;
+        this.completedAge = Duration.ofDays(completedAgeDays);
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.archivedTasks = Counter.builder("tasks.archive.archived")
+                .description("Completed tasks moved to the archive table")
+                .register(meterRegistry);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::archiveSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Archive everything currently eligible.
+     *
+     * @return the number of archived tasks
+     */
+    public long archive() throws InterruptedException {
+        long started = System.nanoTime();
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(completedAge);
+        long total = 0;
+        int archived;
+        do {
+            archived = taskService.archiveCompleted(cutoff, batchSize);
+            archivedTasks.increment(archived);
+            total += archived;
+            if (archived == batchSize && batchPauseMillis > 0) {
+                Thread.sleep(batchPauseMillis);
+            }
+        } while (archived == batchSize);
+
+        if (total > 0) {
+            log.info("Archived {} completed tasks last updated before {} in {} ms", total, cutoff,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+        return total;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void archiveSafely() {
+        try {
+            archive();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Archiving failed, retrying at the next interval", e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.entity.TaskChange;
+import com.example.taskmanager.repository.TaskChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the in-process caches of several instances sharing one database in
+ * step.
+ *
+ * TaskService appends a row to task_changes in the transaction of every
+ * write, so the row commits or rolls back with it. Every
+ * task.change-log.poll-interval-millis a background thread reads the rows
+ * other instances appended since the last poll, up to task.change-log.batch-size
+ * at a time, bumps the {@link TaskChangeTracker} generation (which clears the
+ * list query and response caches and changes the ETags) and hands the summed
+ * count deltas to the listeners, the cached task counts.
+ *
+ * Ids are assigned at insert but become visible at commit, so a transaction
+ * committing after one that started later leaves a gap below ids already
+ * read. The poller remembers the ids it has applied above the highest id up
+ * to which it has seen everything, and waits for gaps until they are
+ * task.change-log.gap-timeout-seconds old; older gaps are taken to be rolled
+ * back transactions. Rows older than task.change-log.retention-seconds are
+ * deleted.
+ *
+ * Only the JPA engine shares its data between instances.
+ */
+@Component
+@ConditionalOnProperty(name = "task.change-log.enabled", havingValue = "true")
+public class TaskChangeLog implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeLog.class);
+    private static final Duration PRUNE_INTERVAL = Duration.ofMinutes(1);
+
+    /**
+     * Receives the count deltas of other instances' writes.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void changed(long hotDelta, long hotCompletedDelta, long archivedDelta);
+    }
+
+    private final TaskChangeRepository repository;
+    private final TaskChangeTracker changeTracker;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final Duration retention;
+    private final Counter recorded;
+    private final Counter applied;
+    private final ScheduledExecutorService executor;
+
+    // Poller state, confined to poll()
+    private long watermark;
+    private final Set<Long> appliedAboveWatermark = new HashSet<>();
+    private final Map<Long, Long> gapsSince = new HashMap<>();
+    private long lastPruned = System.nanoTime();
+
+    public TaskChangeLog(TaskChangeRepository repository, TaskChangeTracker changeTracker,
+                         MeterRegistry meterRegistry,
+                         @Value("${task.change-log.poll-interval-millis:1000}") long pollIntervalMillis,
+                         @Value("${task.change-log.batch-size:500}") int batchSize,
+                         @Value("${task.change-log.gap-timeout-seconds:10}") long gapTimeoutSeconds,
+                         @Value("${task.change-log.retention-seconds:3600}") long retentionSeconds) {
+        this.repository = repository;
+        this.changeTracker = changeTracker;
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = TimeUnit.SECONDS.toNanos(gapTimeoutSeconds);
+        this.retention = Duration.ofSeconds(retentionSeconds);
+        this.recorded = Counter.builder("tasks.change-log.recorded")
+                .description("Writes appended to the change log for other instances")
+                .register(meterRegistry);
+        this.applied = Counter.builder("tasks.change-log.applied")
+                .description("Writes of other instances read from the change log")
+                .register(meterRegistry);
+
+        // Changes from before this instance started are already in what it reads
+        this.watermark = repository.findMaxId();
+        log.info("Change log enabled as instance {}, polling every {} ms", instanceId, pollIntervalMillis);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-change-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Append a write to the log; must run in the writing transaction.
+     *
+     * @param taskId the written task, or null for writes to many tasks
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long taskId, long hotDelta, long hotCompletedDelta, long archivedDelta) {
+        repository.save(new TaskChange(instanceId, taskId, hotDelta, hotCompletedDelta, archivedDelta));
+        recorded.increment();
+    }
+
+    /**
+     * Apply the changes other instances committed since the last poll.
+     *
+     * @return the number of applied changes
+     */
+    public synchronized int poll() {
+        int total = 0;
+        List<TaskChange> changes;
+        long advancedFrom;
+        do {
+            advancedFrom = watermark;
+            changes = repository.findByIdGreaterThanOrderByIdAsc(watermark, PageRequest.of(0, batchSize));
+            total += apply(changes);
+            advanceWatermark(changes);
+        } while (changes.size() == batchSize && watermark > advancedFrom);
+
+        if (System.nanoTime() - lastPruned > PRUNE_INTERVAL.toNanos()) {
+            lastPruned = System.nanoTime();
+            int pruned = repository.deleteChangedBefore(OffsetDateTime.now().minus(retention));
+            log.debug("Pruned {} change log rows", pruned);
+        }
+        return total;
+    }
+
+    private int apply(List<TaskChange> changes) {
+        int remote = 0;
+        long hotDelta = 0;
+        long hotCompletedDelta = 0;
+        long archivedDelta = 0;
+        for (TaskChange change : changes) {
+            // Rows above a gap are read again until the gap closes
+            if (appliedAboveWatermark.add(change.getId()) && !instanceId.equals(change.getInstanceId())) {
+                remote++;
+                hotDelta += change.getHotDelta();
+                hotCompletedDelta += change.getHotCompletedDelta();
+                archivedDelta += change.getArchivedDelta();
+            }
+        }
+        if (remote > 0) {
+            // Outside a transaction, so this publishes right away
+            changeTracker.markChanged();
+            for (Listener listener : listeners) {
+                listener.changed(hotDelta, hotCompletedDelta, archivedDelta);
+            }
+            applied.increment(remote);
+        }
+        return remote;
+    }
+
+    /**
+     * Move the watermark over applied ids and expired gaps, up to the first
+     * gap that may still commit.
+     */
+    private void advanceWatermark(List<TaskChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long highest = changes.get(changes.size() - 1).getId();
+        for (long id = watermark + 1; id < highest; id++) {
+            if (!appliedAboveWatermark.contains(id)) {
+                gapsSince.putIfAbsent(id, now);
+            }
+        }
+        while (watermark < highest) {
+            long next = watermark + 1;
+            if (appliedAboveWatermark.remove(next)) {
+                gapsSince.remove(next);
+                watermark = next;
+            } else if (now - gapsSince.getOrDefault(next, now) >= gapTimeoutNanos) {
+                log.debug("Change log id {} never committed, skipping it", next);
+                gapsSince.remove(next);
+                watermark = next;
+            } else {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.error("Reading the change log failed, retrying at the next interval", e);
+        }
+    }
+}
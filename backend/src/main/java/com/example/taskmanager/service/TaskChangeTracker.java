@@ -0,0 +1,65 @@
+package com.example.taskmanager.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write generation counter for task data.
+ *
+ * TaskService calls {@link #markChanged()} from every write. Listeners are
+ * notified, and then the generation bumped, only once the surrounding
+ * transaction has committed, so anything cached against an older generation is known to be
+ * stale while nothing is invalidated for a write that later rolls back.
+ *
+ * {@link #version()} turns the generation into an opaque string that also
+ * differs between process starts, for use as a list ETag.
+ */
+@Component
+public class TaskChangeTracker {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong generation = new AtomicLong();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public String version() {
+        return epoch + '-' + generation.get();
+    }
+
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void markChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish();
+                }
+            });
+        } else {
+            publish();
+        }
+    }
+
+    /**
+     * Listeners run before the generation moves on: a request that reads the
+     * new generation must not join a list query that started before the
+     * write (SingleFlight) and cache its stale result under that generation.
+     * Anything cached in between carries the old generation and is dropped
+     * once it changes.
+     */
+    private void publish() {
+        listeners.forEach(Runnable::run);
+        generation.incrementAndGet();
+    }
+}
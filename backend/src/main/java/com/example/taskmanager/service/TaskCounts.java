@@ -0,0 +1,100 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.repository.TaskQuery;
+import com.example.taskmanager.repository.TaskStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cached task counts for list totals (X-Total-Count) without a COUNT query
+ * per list request.
+ *
+ * List filters other than due date ranges are combinations of completed
+ * (any, true, false) and includeArchived, so three counters cover all of
+ * them: tasks in the hot set, completed tasks in the hot set and archived
+ * tasks (which are all completed). They are seeded from exact counts by {@link #recalibrate()}
+ * and then adjusted by TaskService on every write, once its transaction has
+ * committed.
+ *
+ * The counts are approximate: writes that bypass TaskService (SQL run by
+ * hand, or another instance unless the {@link TaskChangeLog} is enabled) go
+ * unnoticed until the next recalibration, and a count read while a write
+ * commits may be off by that write.
+ */
+class TaskCounts {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCounts.class);
+
+    private final TaskStore taskStore;
+    private final AtomicLong hot = new AtomicLong();
+    private final AtomicLong hotCompleted = new AtomicLong();
+    private final AtomicLong archived = new AtomicLong();
+
+    TaskCounts(TaskStore taskStore) {
+        this.taskStore = taskStore;
+    }
+
+    /**
+     * @return the cached count for the query's filters, or empty for filters
+     *         the counters don't cover (due date ranges)
+     */
+    OptionalLong approximate(TaskQuery query) {
+        if (query.hasDueRange()) {
+            return OptionalLong.empty();
+        }
+        Boolean completed = query.completed();
+        long count = completed == null ? hot.get()
+                : completed ? hotCompleted.get()
+                : hot.get() - hotCompleted.get();
+        if (query.includeArchived() && !Boolean.FALSE.equals(completed)) {
+            count += archived.get();
+        }
+        return OptionalLong.of(Math.max(0, count));
+    }
+
+    /**
+     * Replace the counters with exact counts from the store; writes
+     * committing meanwhile may be lost, which the next recalibration fixes.
+     */
+    void recalibrate() {
+        long hotCount = taskStore.count(new TaskQuery(null, null, null, false));
+        long completedCount = taskStore.count(new TaskQuery(true, null, null, false));
+        long withArchive = taskStore.count(new TaskQuery(true, null, null, true));
+        hot.set(hotCount);
+        hotCompleted.set(completedCount);
+        archived.set(withArchive - completedCount);
+        log.debug("Task counts recalibrated: {} tasks, {} completed, {} archived", hotCount, completedCount,
+                withArchive - completedCount);
+    }
+
+    /**
+     * Apply a change to the counters once the surrounding transaction has
+     * committed, or right away outside a transaction.
+     */
+    void adjust(long hotDelta, long hotCompletedDelta, long archivedDelta) {
+        if (hotDelta == 0 && hotCompletedDelta == 0 && archivedDelta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(hotDelta, hotCompletedDelta, archivedDelta);
+                }
+            });
+        } else {
+            apply(hotDelta, hotCompletedDelta, archivedDelta);
+        }
+    }
+
+    private void apply(long hotDelta, long hotCompletedDelta, long archivedDelta) {
+        hot.addAndGet(hotDelta);
+        hotCompleted.addAndGet(hotCompletedDelta);
+        archived.addAndGet(archivedDelta);
+    }
+}
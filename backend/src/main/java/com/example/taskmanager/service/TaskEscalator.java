@@ -0,0 +1,210 @@
+package com.example.taskmanager.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Raises the priority of open tasks as their due date approaches: due within
+ * task.escalation.high-within-hours to HIGH, due within
+ * task.escalation.medium-within-hours to at least MEDIUM.
+ *
+ * Every task.escalation.interval-seconds the id space up to the current
+ * maximum is split into ranges of task.escalation.chunk-size ids, which a
+ * dedicated ForkJoin pool of task.escalation.parallelism workers processes
+ * with set-based UPDATEs, one short transaction per range. The parallelism
+ * stays well below the connection pool size, so foreground requests keep
+ * getting connections and row locks quickly.
+ *
+ * Workers back off in proportion to how long their chunks take: after each
+ * chunk a worker pauses so that it runs chunks at most
+ * task.escalation.duty-cycle of the time (1 disables the backoff). A chunk
+ * slowed down by foreground load buys a longer pause, so the pass yields
+ * more the busier the database is, instead of keeping a fixed share of it.
+ * task.escalation.chunk-pause-millis sets a minimum pause on top.
+ *
+ * Progress is checkpointed in job_checkpoints as the highest id below which
+ * every range is done. A run that stops early resumes from there, and because
+ * the updates skip tasks that are already escalated, redoing a range is
+ * harmless.
+ *
+ * Only engines with set-based updates (the JPA engine) escalate anything.
+ */
+@Component
+@ConditionalOnProperty(name = "task.escalation.enabled", havingValue = "true")
+public class TaskEscalator implements DisposableBean {
+
+    static final String JOB_NAME = "task-escalation";
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEscalator.class);
+
+    private final TaskService taskService;
+    private final JobCheckpoints checkpoints;
+    private final Duration highWithin;
+    private final Duration mediumWithin;
+    private final long chunkSize;
+    private final long chunkPauseMillis;
+    private final double dutyCycle;
+    private final Counter escalatedTasks;
+    private final ForkJoinPool workers;
+    private final ScheduledExecutorService scheduler;
+
+    public TaskEscalator(TaskService taskService, JobCheckpoints checkpoints, MeterRegistry meterRegistry,
+                         @Value("${task.escalation.high-within-hours:24}") long highWithinHours,
+                         @Value("${task.escalation.medium-within-hours:72}") long mediumWithinHours,
+                         @Value("${task.escalation.chunk-size:1000}") long chunkSize,
+                         @Value("${task.escalation.parallelism:2}") int parallelism,
+                         @Value("${task.escalation.chunk-pause-millis:0}") long chunkPauseMillis,
+                         @Value("${task.escalation.duty-cycle:0.05}") double dutyCycle,
+                         @Value("${task.escalation.interval-seconds:900}") long intervalSeconds) {
+        this.taskService = taskService;
+        this.checkpoints = checkpoints;
+        this.highWithin = Duration.ofHours(highWithinHours);
+        this.mediumWithin = Duration.ofHours(mediumWithinHours);
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+        if (!(dutyCycle > 0 && dutyCycle <= 1)) {
+            throw new IllegalArgumentException("task.escalation.duty-cycle must be in (0, 1]: " + dutyCycle);
+        }
+        this.dutyCycle = dutyCycle;
+        this.escalatedTasks = Counter.builder("tasks.escalation.escalated")
+                .description("Open tasks whose priority was raised as their due date approached")
+                .register(meterRegistry);
+
+        this.workers = new ForkJoinPool(parallelism, pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("task-escalation-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-escalation-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::escalateSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Run (or resume) one escalation pass over all task ids.
+     *
+     * @return the number of escalated tasks
+     */
+    public long escalate() throws InterruptedException, ExecutionException {
+        long started = System.nanoTime();
+        long resumeAfter = checkpoints.start(JOB_NAME);
+        long maxId = taskService.maxTaskId();
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime highBefore = now.plus(highWithin);
+        OffsetDateTime mediumBefore = now.plus(mediumWithin);
+
+        Progress progress = new Progress(resumeAfter);
+        List<Callable<Integer>> chunks = new ArrayList<>();
+        for (long fromId = resumeAfter + 1; fromId <= maxId; fromId += chunkSize) {
+            long from = fromId;
+            long to = Math.min(fromId + chunkSize - 1, maxId);
+            chunks.add(() -> {
+                long chunkStarted = System.nanoTime();
+                int escalated = taskService.escalatePriorities(from, to, highBefore, mediumBefore);
+                escalatedTasks.increment(escalated);
+                progress.completed(from, to);
+                long pauseMillis = pauseMillis(System.nanoTime() - chunkStarted);
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+                return escalated;
+            });
+        }
+
+        long escalated = 0;
+        for (Future<Integer> chunk : workers.invokeAll(chunks)) {
+            // Rethrows the first failure; the checkpoint keeps the progress made so far
+            escalated += chunk.get();
+        }
+        checkpoints.finish(JOB_NAME, maxId);
+
+        long ids = maxId - resumeAfter;
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Escalation pass over ids {}..{} in {} ms ({} ids/s): {} tasks escalated", resumeAfter + 1, maxId,
+                elapsedMillis, ids * 1000 / elapsedMillis, escalated);
+        return escalated;
+    }
+
+    /**
+     * Pause after a chunk that took chunkNanos, keeping the worker within the
+     * duty cycle and at least chunk-pause-millis apart.
+     */
+    long pauseMillis(long chunkNanos) {
+        long backoffMillis = (long) (TimeUnit.NANOSECONDS.toMillis(chunkNanos) * (1 - dutyCycle) / dutyCycle);
+        return Math.max(chunkPauseMillis, backoffMillis);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void escalateSafely() {
+        try {
+            escalate();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("Escalation pass failed, resuming from the last checkpoint at the next interval", e);
+        }
+    }
+
+    /**
+     * Tracks completed ranges, which finish out of order, and checkpoints the
+     * id below which all of them are done.
+     */
+    private final class Progress {
+
+        private final List<long[]> pending = new ArrayList<>();
+        private final AtomicLong watermark;
+
+        Progress(long lastId) {
+            this.watermark = new AtomicLong(lastId);
+        }
+
+        synchronized void completed(long fromId, long toId) {
+            pending.add(new long[] {fromId, toId});
+            long before = watermark.get();
+            long next = before;
+            boolean advanced = true;
+            while (advanced) {
+                advanced = false;
+                for (int i = 0; i < pending.size(); i++) {
+                    if (pending.get(i)[0] == next + 1) {
+                        next = pending.remove(i)[1];
+                        advanced = true;
+                        break;
+                    }
+                }
+            }
+            if (next != before) {
+                watermark.set(next);
+                checkpoints.advance(JOB_NAME, next);
+            }
+        }
+    }
+}
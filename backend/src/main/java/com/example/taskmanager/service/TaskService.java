@@ -1,68 +1,225 @@
 package com.example.taskmanager.service;
 
 import com.example.taskmanager.entity.TaskEntity;
-import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.metrics.TaskOperationEvents;
+import com.example.taskmanager.repository.RecordingTaskStore;
+import com.example.taskmanager.repository.TaskQuery;
+import com.example.taskmanager.repository.TaskStore;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.SortedMap;
 
 @Service
 @Transactional(readOnly = true)
 public class TaskService {
 
-    private final TaskRepository taskRepository;
+    private final TaskStore taskStore;
+    private final TaskChangeTracker changeTracker;
+    private final TaskCounts counts;
+    private final Optional<TaskChangeLog> changeLog;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<TaskQuery, List<TaskEntity>> listQueries = new SingleFlight<>();
 
-    public TaskService(TaskRepository taskRepository) {
-        this.taskRepository = taskRepository;
+    public TaskService(TaskStore taskStore, TaskChangeTracker changeTracker, Optional<TaskChangeLog> changeLog,
+                       PlatformTransactionManager transactionManager) {
+        this.taskStore = new RecordingTaskStore(taskStore);
+        this.changeTracker = changeTracker;
+        this.counts = new TaskCounts(this.taskStore);
+        this.changeLog = changeLog;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        changeTracker.addListener(listQueries::invalidateAll);
+        changeLog.ifPresent(log -> log.addListener(counts::adjust));
     }
 
-    public List<TaskEntity> getAllTasks(Boolean completed, Integer limit) {
-        List<TaskEntity> tasks;
+    /**
+     * Identical concurrent list queries share one database query. Runs outside
+     * a transaction so that waiting callers don't hold a pooled connection;
+     * only the caller that actually executes the query opens one.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TaskEntity> getAllTasks(TaskQuery query) {
+        boolean[] executed = new boolean[1];
+        // Shared between coalesced callers, so it must not be modified
+        List<TaskEntity> tasks = listQueries.execute(query, () -> {
+            executed[0] = true;
+            return readOnlyTransaction.execute(status -> Collections.unmodifiableList(taskStore.findTasks(query)));
+        });
+        TaskOperationEvents.cache("single-flight", !executed[0]);
+        return tasks;
+    }
 
-        if (completed != null) {
-            tasks = taskRepository.findByCompleted(completed);
-        } else {
-            tasks = taskRepository.findAll();
-        }
+    /**
+     * Number of tasks matching a list query's filters, ignoring its limit.
+     * Unless exact is set this is the cached count, which costs no query
+     * (see {@link TaskCounts}), and is empty where there is none.
+     */
+    public OptionalLong countTasks(TaskQuery query, boolean exact) {
+        return exact ? OptionalLong.of(taskStore.count(query)) : counts.approximate(query);
+    }
 
-        if (limit != null && limit > 0 && limit < tasks.size()) {
-            return tasks.subList(0, limit);
-        }
+    /**
+     * Tasks per calendar day of their due date in the given zone, for the
+     * query's due range.
+     */
+    public SortedMap<LocalDate, Long> countTasksByDueDay(TaskQuery query, ZoneId zone) {
+        return taskStore.countByDueDay(query, zone);
+    }
 
-        return tasks;
+    /**
+     * Seed the cached counts from exact ones once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recalibrateCounts() {
+        counts.recalibrate();
     }
 
+    /**
+     * Version of the task data, changing with every committed write; read it
+     * before querying so a concurrent write can only make it older than the data.
+     */
+    public String dataVersion() {
+        return changeTracker.version();
+    }
+
+    /**
+     * Also finds archived tasks, so ids stay valid after a task is archived.
+     * Read through the store's lightweight path without a transaction; the
+     * returned entity is a detached copy.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<TaskEntity> getTaskById(Long id) {
-        return taskRepository.findById(id);
+        return taskStore.readById(id);
+    }
+
+    /**
+     * Several tasks by id through the store's batched lightweight path, in
+     * one call rather than a transaction per id; see {@link #getTaskById}.
+     *
+     * @return the tasks found, keyed by id
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Long, TaskEntity> getTasksByIds(Collection<Long> ids) {
+        return taskStore.readByIds(ids);
     }
 
     @Transactional
     public TaskEntity createTask(TaskEntity task) {
-        return taskRepository.save(task);
+        TaskEntity saved = taskStore.save(task);
+        changed(saved.getId(), 1, completed(saved), 0);
+        return saved;
+    }
+
+    /**
+     * Insert one chunk of a bulk import in its own transaction.
+     */
+    @Transactional
+    public void importTasks(List<TaskEntity> tasks) {
+        taskStore.saveAll(tasks);
+        changed(null, tasks.size(),
+                tasks.stream().filter(task -> Boolean.TRUE.equals(task.getCompleted())).count(), 0);
     }
 
     @Transactional
     public Optional<TaskEntity> updateTask(Long id, TaskEntity updatedTask) {
-        return taskRepository.findById(id)
+        Optional<TaskEntity> hotTask = taskStore.findById(id);
+        boolean restored = hotTask.isEmpty();
+        return hotTask
+                .or(() -> taskStore.restoreArchived(id))
                 .map(existingTask -> {
+                    long wasCompleted = completed(existingTask);
                     existingTask.setTitle(updatedTask.getTitle());
                     existingTask.setDescription(updatedTask.getDescription());
                     existingTask.setCompleted(updatedTask.getCompleted());
                     existingTask.setPriority(updatedTask.getPriority());
                     existingTask.setDueDate(updatedTask.getDueDate());
-                    return taskRepository.save(existingTask);
+                    // A restored task moves from the archive to the hot set as a completed task first
+                    long restoredCount = restored ? 1 : 0;
+                    changed(id, restoredCount, restoredCount + completed(existingTask) - wasCompleted,
+                            -restoredCount);
+                    return taskStore.save(existingTask);
                 });
     }
 
+    /**
+     * Archive one batch; see {@link TaskStore#archiveCompleted}. Each batch is
+     * its own short transaction so row locks are released between batches.
+     */
+    @Transactional
+    public int archiveCompleted(OffsetDateTime updatedBefore, int batchSize) {
+        int archived = taskStore.archiveCompleted(updatedBefore, batchSize);
+        if (archived > 0) {
+            changed(null, -archived, -archived, archived);
+        }
+        return archived;
+    }
+
+    public long maxTaskId() {
+        return taskStore.maxId();
+    }
+
+    /**
+     * Escalate the open tasks in one id range in a single short transaction:
+     * due by highBefore to HIGH, then due by mediumBefore to at least MEDIUM.
+     *
+     * @return the number of escalated tasks
+     */
+    @Transactional
+    public int escalatePriorities(long fromId, long toId, OffsetDateTime highBefore, OffsetDateTime mediumBefore) {
+        int escalated = taskStore.escalatePriority(fromId, toId, TaskEntity.Priority.HIGH, highBefore)
+                + taskStore.escalatePriority(fromId, toId, TaskEntity.Priority.MEDIUM, mediumBefore);
+        if (escalated > 0) {
+            changed(null, 0, 0, 0);
+        }
+        return escalated;
+    }
+
+    /**
+     * Looks the task up first so the cached counts know which of them it was in.
+     */
     @Transactional
     public boolean deleteTask(Long id) {
-        return taskRepository.findById(id)
-                .map(task -> {
-                    taskRepository.delete(task);
-                    return true;
-                })
-                .orElse(false);
+        Optional<TaskEntity> hotTask = taskStore.findById(id);
+        Optional<TaskEntity> archivedTask = hotTask.isPresent() ? Optional.empty() : taskStore.findArchivedById(id);
+        boolean deleted = taskStore.deleteById(id);
+        if (deleted) {
+            if (hotTask.isPresent()) {
+                changed(id, -1, -completed(hotTask.get()), 0);
+            } else {
+                changed(id, 0, 0, archivedTask.isPresent() ? -1 : 0);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Record a write in the current transaction: invalidate the caches and
+     * adjust the cached counts once it commits, and log it for other
+     * instances if the change log is enabled.
+     */
+    private void changed(Long taskId, long hotDelta, long hotCompletedDelta, long archivedDelta) {
+        changeTracker.markChanged();
+        counts.adjust(hotDelta, hotCompletedDelta, archivedDelta);
+        changeLog.ifPresent(log -> log.record(taskId, hotDelta, hotCompletedDelta, archivedDelta));
+    }
+
+    private static long completed(TaskEntity task) {
+        return Boolean.TRUE.equals(task.getCompleted()) ? 1 : 0;
     }
 }
@@ -0,0 +1,104 @@
+package com.example.taskmanager.web;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client rate limiter implementing token buckets with GCRA.
+ *
+ * Each bucket is a single AtomicLong holding the "theoretical arrival time"
+ * of the next request, so acquiring is one CAS without any locking. A bucket
+ * whose arrival time is in the past is full, which means it can be dropped
+ * without changing behaviour; idle buckets are swept once per second (or as
+ * soon as the map reaches its bound), keeping memory proportional to the
+ * number of clients active within the last burst window. If the map is still
+ * full after sweeping, new clients share a single overflow bucket until space
+ * frees up, so memory stays bounded even under a flood of distinct keys.
+ */
+public class ClientRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+    private static final long FORCED_SWEEP_INTERVAL_NANOS = 10_000_000L;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+    private final AtomicLong nextSweep = new AtomicLong();
+    private final AtomicLong nextForcedSweep = new AtomicLong();
+    private final int maxBuckets;
+
+    public ClientRateLimiter(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * Try to take one token from the bucket identified by key.
+     *
+     * @return 0 if the request is allowed, otherwise the number of nanoseconds
+     *         until the next token is available
+     */
+    public long tryAcquire(String key, Limit limit) {
+        long now = System.nanoTime();
+        maybeSweep(now);
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucket(key, now);
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long start = Math.max(tat, now);
+            long wait = start - now - limit.toleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, start + limit.intervalNanos())) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong newBucket(String key, long now) {
+        if (buckets.size() >= maxBuckets) {
+            long due = nextForcedSweep.get();
+            if (now - due >= 0 && nextForcedSweep.compareAndSet(due, now + FORCED_SWEEP_INTERVAL_NANOS)) {
+                sweep(now);
+            }
+            if (buckets.size() >= maxBuckets) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private void maybeSweep(long now) {
+        long due = nextSweep.get();
+        if (now - due >= 0 && nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            sweep(now);
+        }
+    }
+
+    private void sweep(long now) {
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    /**
+     * Rate and burst for one operation, pre-computed into GCRA terms.
+     */
+    public record Limit(long intervalNanos, long toleranceNanos) {
+
+        public static Limit of(double requestsPerSecond, int burst) {
+            if (requestsPerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException(
+                        "Invalid rate limit: " + requestsPerSecond + "/s, burst " + burst);
+            }
+            long interval = (long) (1_000_000_000L / requestsPerSecond);
+            return new Limit(interval, interval * (burst - 1));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.taskmanager.web;
+
+import com.example.taskmanager.generated.model.Error;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * Load shedding for the TasksApi operations.
+ *
+ * Reads and writes each get their own adaptive limiter, so a burst of slow
+ * writes cannot starve list and lookup traffic (and vice versa). Requests over
+ * the limit are rejected immediately with 503 and a Retry-After header, as
+ * declared in api/task-api.yaml. Bulk imports are not limited here (see
+ * WebConfig): one import would hold its slot for its whole duration, and its
+ * latency would read as congestion and shrink the write limit.
+ *
+ * Configuration is read from application.properties:
+ * - concurrency-limit.read.initial-limit / concurrency-limit.read.max-limit
+ * - concurrency-limit.write.initial-limit / concurrency-limit.write.max-limit
+ * - concurrency-limit.min-limit
+ * - concurrency-limit.retry-after-seconds
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+
+    private final GradientConcurrencyLimiter readLimiter;
+    private final GradientConcurrencyLimiter writeLimiter;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitInterceptor(
+            @Value("${concurrency-limit.read.initial-limit:50}") int readInitialLimit,
+            @Value("${concurrency-limit.read.max-limit:200}") int readMaxLimit,
+            @Value("${concurrency-limit.write.initial-limit:20}") int writeInitialLimit,
+            @Value("${concurrency-limit.write.max-limit:100}") int writeMaxLimit,
+            @Value("${concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.readLimiter = new GradientConcurrencyLimiter(readInitialLimit, minLimit, readMaxLimit);
+        this.writeLimiter = new GradientConcurrencyLimiter(writeInitialLimit, minLimit, writeMaxLimit);
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+
+        registerMetrics(meterRegistry, "read", readLimiter);
+        registerMetrics(meterRegistry, "write", writeLimiter);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        GradientConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            reject(response);
+            return false;
+        }
+
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(LIMITER_ATTRIBUTE) instanceof GradientConcurrencyLimiter limiter)) {
+            return;
+        }
+
+        if (ex != null || response.getStatus() >= 500) {
+            limiter.onDropped();
+        } else {
+            long start = (Long) request.getAttribute(START_ATTRIBUTE);
+            limiter.onSuccess(System.nanoTime() - start);
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new Error("SERVICE_OVERLOADED", "Too many concurrent requests, retry later"));
+    }
+
+    private static void registerMetrics(MeterRegistry registry, String type, GradientConcurrencyLimiter limiter) {
+        Gauge.builder("tasks.concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("tasks.concurrency.in-flight", limiter, GradientConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a concurrency slot")
+                .tag("type", type)
+                .register(registry);
+        FunctionCounter.builder("tasks.concurrency.rejected", limiter, GradientConcurrencyLimiter::getRejected)
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("type", type)
+                .register(registry);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.taskmanager.web;
+
+/**
+ * Thrown when an Idempotency-Key is repeated with a different request body.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key '" + key + "' was already used with a different request body");
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.taskmanager.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time-expiring store of Idempotency-Key responses.
+ *
+ * The first request with a key runs the operation; its result is kept for
+ * idempotency.ttl-seconds and returned to every later request with the same
+ * key. A request arriving while the first one is still running waits for its
+ * result instead of running the operation again. Keys are scoped per client
+ * (API key header, else remote address), and a key repeated with a different
+ * request body is rejected.
+ *
+ * Entries are evicted in insertion order once they expire or more than
+ * idempotency.max-keys have been queued. All entries share one TTL, so
+ * insertion order is also expiry order and eviction never scans the map.
+ * Failed operations are forgotten immediately so the client can retry; their
+ * queue slots (and those of expired entries replaced by a new request) are
+ * only reclaimed when they reach the head, so they count towards max-keys
+ * until then, which keeps both the map and the queue bounded.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ArrayDeque<Entry> insertionOrder = new ArrayDeque<>();
+    private final long ttlNanos;
+    private final int maxKeys;
+    private final String clientHeader;
+    private final Counter replayed;
+
+    public IdempotencyStore(@Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${idempotency.max-keys:10000}") int maxKeys,
+                            @Value("${rate-limit.client-header:X-API-Key}") String clientHeader,
+                            MeterRegistry meterRegistry) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxKeys = maxKeys;
+        this.clientHeader = clientHeader;
+        this.replayed = Counter.builder("tasks.idempotency.replayed")
+                .description("Requests answered with the stored response of an earlier request")
+                .register(meterRegistry);
+        Gauge.builder("tasks.idempotency.keys", entries, Map::size)
+                .description("Idempotency keys currently remembered")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the operation once per key.
+     *
+     * @param key         the Idempotency-Key header value
+     * @param fingerprint request content that must match for a key to be reused
+     * @param operation   produces the response to store
+     * @throws IdempotencyKeyReusedException if the key was used with a different fingerprint
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> execute(String key, Object fingerprint, Supplier<T> operation) {
+        String scopedKey = currentClient() + '\n' + key;
+        long now = System.nanoTime();
+        Entry created = new Entry(scopedKey, fingerprint, now + ttlNanos);
+
+        while (true) {
+            Entry existing = entries.putIfAbsent(scopedKey, created);
+            if (existing == null) {
+                break;
+            }
+            if (existing.expiresAt - now > 0) {
+                if (!Objects.equals(existing.fingerprint, fingerprint)) {
+                    throw new IdempotencyKeyReusedException(key);
+                }
+                replayed.increment();
+                return new Result<>((T) await(existing.response), true);
+            }
+            entries.remove(scopedKey, existing);
+        }
+
+        synchronized (insertionOrder) {
+            insertionOrder.addLast(created);
+            evict(now);
+        }
+
+        try {
+            T value = operation.get();
+            created.response.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException | Error e) {
+            entries.remove(scopedKey, created);
+            created.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = insertionOrder.peekFirst()) != null
+                && (oldest.expiresAt - now <= 0 || insertionOrder.size() > maxKeys)) {
+            insertionOrder.pollFirst();
+            entries.remove(oldest.key, oldest);
+        }
+    }
+
+    private String currentClient() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return "";
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        String apiKey = request.getHeader(clientHeader);
+        return apiKey != null && !apiKey.isBlank() ? apiKey : request.getRemoteAddr();
+    }
+
+    private static Object await(CompletableFuture<Object> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            // The first request failed; surface the same error to the ones that waited for it
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param value    the response of the first request with the key
+     * @param replayed true if the operation was not run for this request
+     */
+    public record Result<T>(T value, boolean replayed) {
+    }
+
+    private static final class Entry {
+        final String key;
+        final Object fingerprint;
+        final long expiresAt;
+        final CompletableFuture<Object> response = new CompletableFuture<>();
+
+        Entry(String key, Object fingerprint, long expiresAt) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
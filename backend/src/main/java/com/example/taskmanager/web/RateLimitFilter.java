@@ -0,0 +1,159 @@
+package com.example.taskmanager.web;
+
+import com.example.taskmanager.generated.model.Error;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client rate limiting ahead of the TasksApi endpoints.
+ *
+ * Clients are identified by their remote address, or by their API key header
+ * if it is one of rate-limit.api-keys. The header is not authenticated
+ * otherwise, so a client sending a new value per request would get a fresh
+ * bucket every time (and could fill max-clients); unknown keys are ignored.
+ * Every operation has its own bucket per client so a client polling
+ * GET /tasks does not use up its budget for writes. Rejected requests get 429
+ * with a Retry-After header, as declared in api/task-api.yaml.
+ *
+ * Configuration is read from application.properties:
+ * - rate-limit.client-header
+ * - rate-limit.api-keys
+ * - rate-limit.max-clients
+ * - rate-limit.default.requests-per-second / rate-limit.default.burst
+ * - rate-limit.operations.{operationId}.requests-per-second / .burst
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/v1/tasks";
+
+    private final ClientRateLimiter limiter;
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String clientHeader;
+    private final Set<String> apiKeys;
+    private final ClientRateLimiter.Limit defaultLimit;
+    private final Map<String, ClientRateLimiter.Limit> limits = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(Environment environment, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.clientHeader = environment.getProperty("rate-limit.client-header", "X-API-Key");
+        this.apiKeys = Set.of(environment.getProperty("rate-limit.api-keys", String[].class, new String[0]));
+        this.limiter = new ClientRateLimiter(environment.getProperty("rate-limit.max-clients", Integer.class, 100_000));
+        this.defaultLimit = ClientRateLimiter.Limit.of(
+                environment.getProperty("rate-limit.default.requests-per-second", Double.class, 50.0),
+                environment.getProperty("rate-limit.default.burst", Integer.class, 100));
+
+        Gauge.builder("tasks.rate-limit.buckets", limiter, ClientRateLimiter::size)
+                .description("Active per-client rate limit buckets")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String operation = resolveOperation(request);
+        String key = operation + '|' + resolveClient(request);
+
+        long waitNanos = limiter.tryAcquire(key, limits.computeIfAbsent(operation, this::loadLimit));
+        if (waitNanos > 0) {
+            reject(response, operation, waitNanos);
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private String resolveClient(HttpServletRequest request) {
+        String apiKey = request.getHeader(clientHeader);
+        return apiKey != null && !apiKey.isBlank() && apiKeys.contains(apiKey)
+                ? "key:" + apiKey
+                : request.getRemoteAddr();
+    }
+
+    /**
+     * Map the request onto the operationId from the spec without going through
+     * handler mapping, which runs later in the dispatcher.
+     */
+    static String resolveOperation(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if (path.equals(API_PREFIX)) {
+            return switch (method) {
+                case "GET" -> "getTasks";
+                case "POST" -> "createTask";
+                default -> "default";
+            };
+        }
+        if (path.equals(API_PREFIX + ":batchGet")) {
+            return method.equals("POST") ? "batchGetTasks" : "default";
+        }
+        if (path.equals(API_PREFIX + "/import")) {
+            return method.equals("POST") ? "importTasks" : "default";
+        }
+        if (path.equals(API_PREFIX + "/due-counts")) {
+            return method.equals("GET") ? "getTaskDueCounts" : "default";
+        }
+        if (path.startsWith(API_PREFIX + "/") && path.indexOf('/', API_PREFIX.length() + 1) < 0) {
+            return switch (method) {
+                case "GET" -> "getTaskById";
+                case "PUT" -> "updateTask";
+                case "DELETE" -> "deleteTask";
+                default -> "default";
+            };
+        }
+        return "default";
+    }
+
+    private ClientRateLimiter.Limit loadLimit(String operation) {
+        String prefix = "rate-limit.operations." + operation + ".";
+        Double rate = environment.getProperty(prefix + "requests-per-second", Double.class);
+        Integer burst = environment.getProperty(prefix + "burst", Integer.class);
+        if (rate == null && burst == null) {
+            return defaultLimit;
+        }
+        return ClientRateLimiter.Limit.of(
+                rate != null ? rate : 1_000_000_000.0 / defaultLimit.intervalNanos(),
+                burst != null ? burst : (int) (defaultLimit.toleranceNanos() / defaultLimit.intervalNanos()) + 1);
+    }
+
+    private void reject(HttpServletResponse response, String operation, long waitNanos) throws IOException {
+        Counter.builder("tasks.rate-limit.rejected")
+                .description("Requests rejected by the per-client rate limiter")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new Error("RATE_LIMITED", "Rate limit exceeded for " + operation));
+    }
+}
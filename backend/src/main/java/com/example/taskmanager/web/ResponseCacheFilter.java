@@ -0,0 +1,234 @@
+package com.example.taskmanager.web;
+
+import com.example.taskmanager.service.TaskChangeTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of serialized GET /tasks responses.
+ *
+ * A cached list is written straight from its stored bytes, without running
+ * the handler, mapping DTOs or serializing JSON again. Entries are keyed by
+ * the normalized query parameters (defaults filled in, dates as instants,
+ * fields sorted) and the Origin header, whose CORS response headers are
+ * replayed with the body. Each entry records the {@link TaskChangeTracker}
+ * generation read before the list was queried and is only served while the
+ * generation is unchanged; every committed write bumps it and clears the
+ * cache.
+ *
+ * Responses of at least response-cache.gzip-min-bytes are also kept
+ * gzip-compressed and served as such to clients accepting gzip. Requests with
+ * unknown or repeated parameters, or unparseable dates, bypass the cache, as
+ * do conditional requests that name the current ETag (answered with 304 by
+ * the handler).
+ *
+ * Configuration is read from application.properties:
+ * - response-cache.max-entries
+ * - response-cache.max-entry-bytes
+ * - response-cache.gzip-min-bytes
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String LIST_PATH = "/api/v1/tasks";
+    private static final Set<String> PARAMETERS = Set.of("completed", "limit", "sort", "includeArchived",
+            "dueFrom", "dueTo", "fields", "exactCount");
+    // Defaults from api/task-api.yaml, so an omitted parameter shares the entry of its default value
+    private static final Map<String, String> DEFAULTS = Map.of("limit", "20", "includeArchived", "false",
+            "exactCount", "false");
+    // Per-request diagnostics, not part of the cached representation
+    private static final Set<String> UNCACHED_HEADERS = Set.of("server-timing", "x-allocated-bytes",
+            "content-length", "content-type", "transfer-encoding", "date");
+
+    private final TaskChangeTracker changeTracker;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final int maxEntryBytes;
+    private final int gzipMinBytes;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCacheFilter(Environment environment, TaskChangeTracker changeTracker, MeterRegistry meterRegistry) {
+        this.changeTracker = changeTracker;
+        this.maxEntries = environment.getProperty("response-cache.max-entries", Integer.class, 1000);
+        this.maxEntryBytes = environment.getProperty("response-cache.max-entry-bytes", Integer.class, 262_144);
+        this.gzipMinBytes = environment.getProperty("response-cache.gzip-min-bytes", Integer.class, 2048);
+        this.hits = Counter.builder("tasks.response-cache").tag("result", "hit")
+                .description("GET /tasks requests answered from the serialized response cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("tasks.response-cache").tag("result", "miss")
+                .description("Cacheable GET /tasks requests the handler had to answer")
+                .register(meterRegistry);
+        Gauge.builder("tasks.response-cache.entries", entries, Map::size)
+                .description("Serialized GET /tasks responses currently cached")
+                .register(meterRegistry);
+
+        changeTracker.addListener(this::clear);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !request.getRequestURI().substring(request.getContextPath().length()).equals(LIST_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = cacheKey(request);
+        if (key == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long generation = changeTracker.generation();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.generation == generation && !namesEtag(request, entry)) {
+            hits.increment();
+            write(entry, request, response);
+            return;
+        }
+
+        misses.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentSize() <= maxEntryBytes) {
+                store(key, generation, wrapper);
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * @return the normalized cache key, or null if the request must not be cached
+     */
+    static String cacheKey(HttpServletRequest request) {
+        Map<String, String> parameters = new TreeMap<>(DEFAULTS);
+        for (Map.Entry<String, String[]> parameter : request.getParameterMap().entrySet()) {
+            String name = parameter.getKey();
+            if (!PARAMETERS.contains(name) || parameter.getValue().length != 1) {
+                return null;
+            }
+            String value = parameter.getValue()[0].trim();
+            try {
+                parameters.put(name, switch (name) {
+                    case "dueFrom", "dueTo" -> OffsetDateTime.parse(value).toInstant().toString();
+                    case "fields" -> String.join(",", new TreeSet<>(Arrays.asList((value + ",id").split(","))));
+                    case "completed", "includeArchived", "exactCount" -> value.toLowerCase();
+                    default -> value;
+                });
+            } catch (DateTimeException e) {
+                // Rejected by the handler; not worth caching
+                return null;
+            }
+        }
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        return parameters + "|" + (origin != null ? origin : "");
+    }
+
+    /**
+     * Conditional requests that may match the entry's ETag are left to the
+     * handler, which answers them with 304.
+     */
+    private static boolean namesEtag(HttpServletRequest request, Entry entry) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        return ifNoneMatch != null && (entry.etag == null || ifNoneMatch.contains("*")
+                || ifNoneMatch.contains(entry.etag.substring(entry.etag.startsWith("W/") ? 2 : 0)));
+    }
+
+    private void store(String key, long generation, ContentCachingResponseWrapper response) {
+        byte[] body = response.getContentAsByteArray();
+        List<String[]> headers = new ArrayList<>();
+        // Header names repeat once per value
+        for (String name : new LinkedHashSet<>(response.getHeaderNames())) {
+            if (!UNCACHED_HEADERS.contains(name.toLowerCase())) {
+                for (String value : response.getHeaders(name)) {
+                    headers.add(new String[]{name, value});
+                }
+            }
+        }
+        byte[] gzipped = gzipMinBytes >= 0 && body.length >= gzipMinBytes ? gzip(body) : null;
+        Entry entry = new Entry(generation, headers, response.getContentType(), response.getHeader(HttpHeaders.ETAG),
+                body, gzipped);
+
+        if (entries.put(key, entry) == null) {
+            insertionOrder.add(key);
+            while (entries.size() > maxEntries) {
+                String eldest = insertionOrder.poll();
+                if (eldest == null) {
+                    break;
+                }
+                entries.remove(eldest);
+            }
+        }
+    }
+
+    private static void write(Entry entry, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        for (String[] header : entry.headers) {
+            response.addHeader(header[0], header[1]);
+        }
+        response.setContentType(entry.contentType);
+        byte[] body = entry.body;
+        if (entry.gzipped != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = entry.gzipped;
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private void clear() {
+        entries.clear();
+        insertionOrder.clear();
+    }
+
+    private record Entry(long generation, List<String[]> headers, String contentType, String etag, byte[] body,
+                         byte[] gzipped) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.taskmanager.web;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Serializes only the properties a handler selected with {@link #select}
+ * (the fields parameter of GET /tasks) for DTOs mixed in with
+ * {@link Filtered}. Responses without a selection are written as usual;
+ * the ObjectMapper's default filter serializes every property.
+ */
+@RestControllerAdvice
+public class SparseFieldsAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String FILTER_ID = "sparseFields";
+
+    private static final String FIELDS_ATTRIBUTE = SparseFieldsAdvice.class.getName() + ".fields";
+
+    /**
+     * Jackson mix-in for DTOs whose properties can be selected.
+     */
+    @JsonFilter(FILTER_ID)
+    public interface Filtered {
+    }
+
+    /**
+     * Limit the current request's response body to the given JSON properties.
+     */
+    public static void select(Set<String> fields) {
+        RequestContextHolder.currentRequestAttributes()
+                .setAttribute(FIELDS_ATTRIBUTE, fields, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(servletRequest.getServletRequest().getAttribute(FIELDS_ATTRIBUTE) instanceof Set<?> fields)) {
+            return body;
+        }
+        MappingJacksonValue value = body instanceof MappingJacksonValue wrapped
+                ? wrapped
+                : new MappingJacksonValue(body);
+        @SuppressWarnings("unchecked")
+        Set<String> properties = (Set<String>) fields;
+        value.setFilters(new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(properties)));
+        return value;
+    }
+}
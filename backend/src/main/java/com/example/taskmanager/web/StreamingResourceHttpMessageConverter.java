@@ -0,0 +1,37 @@
+package com.example.taskmanager.web;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reads streamed request bodies (application/x-ndjson) into a {@link Resource}
+ * that wraps the request input stream.
+ *
+ * The generated API declares binary bodies as Resource, and Spring's
+ * ResourceHttpMessageConverter only streams for InputStreamResource
+ * parameters; for Resource it copies the whole body into a byte array first,
+ * which defeats incremental parsing of large imports. The stream is only valid
+ * while the handler runs. Writing is inherited unchanged, so a Resource
+ * returned as application/x-ndjson is streamed like any other.
+ */
+public class StreamingResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    public StreamingResourceHttpMessageConverter() {
+        super(true);
+        setSupportedMediaTypes(List.of(APPLICATION_NDJSON));
+    }
+
+    @Override
+    protected Resource readInternal(Class<? extends Resource> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        return new InputStreamResource(inputMessage.getBody());
+    }
+}
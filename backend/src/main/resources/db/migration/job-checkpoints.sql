@@ -0,0 +1,11 @@
+-- Creates the checkpoint table used by resumable background jobs such as
+-- the priority escalation (H2). Only needed for databases created before
+-- the change; schemas created by Hibernate already have it.
+
+CREATE TABLE job_checkpoints (
+    name VARCHAR(100) NOT NULL PRIMARY KEY,
+    last_id BIGINT NOT NULL,
+    finished BOOLEAN NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,19 @@
+-- Migrates an existing tasks table (H2) from the enum-name priority column
+-- to the numeric rank used by PriorityRankConverter, and adds the indexes
+-- backing sorted paging. Only needed for databases created before the
+-- change; schemas created by Hibernate already have the new layout.
+
+ALTER TABLE tasks ADD COLUMN priority_rank SMALLINT;
+
+UPDATE tasks SET priority_rank = CASE priority
+    WHEN 'LOW' THEN 1
+    WHEN 'MEDIUM' THEN 2
+    WHEN 'HIGH' THEN 3
+END;
+
+ALTER TABLE tasks DROP COLUMN priority;
+ALTER TABLE tasks ALTER COLUMN priority_rank RENAME TO priority;
+
+CREATE INDEX idx_tasks_priority_due_created ON tasks (priority, due_date, created_at);
+CREATE INDEX idx_tasks_completed_priority_due_created ON tasks (completed, priority, due_date, created_at);
+CREATE INDEX idx_tasks_completed_created ON tasks (completed, created_at);
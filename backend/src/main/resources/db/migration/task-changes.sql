@@ -0,0 +1,15 @@
+-- Creates the change log other instances poll to invalidate their caches
+-- (H2). Only needed for databases created before the change; schemas
+-- created by Hibernate already have it.
+
+CREATE TABLE task_changes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id BIGINT,
+    instance_id VARCHAR(36) NOT NULL,
+    hot_delta BIGINT NOT NULL,
+    hot_completed_delta BIGINT NOT NULL,
+    archived_delta BIGINT NOT NULL,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_task_changes_changed_at ON task_changes (changed_at);
@@ -0,0 +1,19 @@
+-- Creates the archive table for completed tasks (H2) and the index the
+-- archiver uses to find them. Only needed for databases created before the
+-- change; schemas created by Hibernate already have both.
+
+CREATE TABLE tasks_archive (
+    id BIGINT NOT NULL PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description VARCHAR(1000),
+    completed BOOLEAN NOT NULL,
+    priority SMALLINT,
+    due_date TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_tasks_archive_priority_due_created ON tasks_archive (priority, due_date, created_at);
+CREATE INDEX idx_tasks_archive_created ON tasks_archive (created_at);
+CREATE INDEX idx_tasks_completed_updated ON tasks (completed, updated_at);
@@ -0,0 +1,7 @@
+-- Adds the due date indexes behind due date range lists and per-day counts
+-- (H2). Only needed for databases created before the change; schemas
+-- created by Hibernate already have them.
+
+CREATE INDEX idx_tasks_due ON tasks (due_date);
+CREATE INDEX idx_tasks_completed_due ON tasks (completed, due_date);
+CREATE INDEX idx_tasks_archive_due ON tasks_archive (due_date);
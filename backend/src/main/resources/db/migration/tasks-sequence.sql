@@ -0,0 +1,10 @@
+-- Switches an existing tasks table (H2) from IDENTITY ids to the tasks_seq
+-- sequence, which lets Hibernate batch inserts. Hibernate's pooled optimizer
+-- treats each sequence value as the top of a block of 50 ids, so the sequence
+-- restarts 50 past the highest existing id. Only needed for databases created
+-- before the change; schemas created by Hibernate already have the sequence.
+
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE tasks_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM tasks);
@@ -0,0 +1,29 @@
+-- Replaces the sort indexes with one per supported sort order, matching the
+-- ORDER BY exactly (directions and the id tie-break included) so H2 pages
+-- through the index instead of sorting (H2). Only needed for databases
+-- created before the change; schemas created by Hibernate already have them.
+
+DROP INDEX IF EXISTS idx_tasks_priority_due_created;
+DROP INDEX IF EXISTS idx_tasks_completed_priority_due_created;
+DROP INDEX IF EXISTS idx_tasks_completed_created;
+DROP INDEX IF EXISTS idx_tasks_completed_updated;
+DROP INDEX IF EXISTS idx_tasks_due;
+DROP INDEX IF EXISTS idx_tasks_completed_due;
+DROP INDEX IF EXISTS idx_tasks_archive_priority_due_created;
+DROP INDEX IF EXISTS idx_tasks_archive_created;
+DROP INDEX IF EXISTS idx_tasks_archive_due;
+
+CREATE INDEX idx_tasks_priority_due_desc_created ON tasks (priority, due_date DESC, created_at, id);
+CREATE INDEX idx_tasks_completed_priority_due_desc_created ON tasks (completed, priority, due_date DESC, created_at, id);
+CREATE INDEX idx_tasks_priority_desc_due ON tasks (priority DESC, due_date, id);
+CREATE INDEX idx_tasks_completed_priority_desc_due ON tasks (completed, priority DESC, due_date, id);
+CREATE INDEX idx_tasks_due ON tasks (due_date, id);
+CREATE INDEX idx_tasks_completed_due ON tasks (completed, due_date, id);
+CREATE INDEX idx_tasks_updated_desc ON tasks (updated_at DESC, id);
+CREATE INDEX idx_tasks_completed_updated_desc ON tasks (completed, updated_at DESC, id);
+CREATE INDEX idx_tasks_completed_id ON tasks (completed, id);
+
+CREATE INDEX idx_tasks_archive_priority_due_desc_created ON tasks_archive (priority, due_date DESC, created_at, id);
+CREATE INDEX idx_tasks_archive_priority_desc_due ON tasks_archive (priority DESC, due_date, id);
+CREATE INDEX idx_tasks_archive_due ON tasks_archive (due_date, id);
+CREATE INDEX idx_tasks_archive_updated_desc ON tasks_archive (updated_at DESC, id);
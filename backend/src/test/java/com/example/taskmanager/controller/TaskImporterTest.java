@@ -0,0 +1,79 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.entity.TaskEntity;
+import com.example.taskmanager.generated.model.ImportError;
+import com.example.taskmanager.generated.model.ImportResult;
+import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class TaskImporterTest {
+
+    private final TaskService taskService = mock(TaskService.class);
+    private final List<String> committedTitles = new ArrayList<>();
+    private final TaskImporter importer = new TaskImporter(taskService, new TaskMapperImpl(), new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(), new SimpleMeterRegistry(), 2, 100);
+
+    @Test
+    void rejectedChunkIsReportedAndTheImportContinues() throws Exception {
+        doAnswer(invocation -> {
+            List<TaskEntity> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(task -> task.getTitle().equals("rejected"))) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            chunk.forEach(task -> committedTitles.add(task.getTitle()));
+            return null;
+        }).when(taskService).importTasks(anyList());
+
+        ImportResult result = importer.importTasks(body("""
+                {"title":"a"}
+                {"title":"b"}
+                {"title":"c"}
+
+                {"title":"rejected"}
+                {"title":""}
+                {"title":"d"}
+                """), 10);
+
+        assertThat(committedTitles).containsExactly("a", "b", "d");
+        assertThat(result.lines()).isEqualTo(6);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.errors()).extracting(ImportError::line).containsExactly(3L, 5L, 6L);
+        assertThat(result.errors().get(0).message()).contains("batch failed to commit", "duplicate key");
+    }
+
+    @Test
+    void errorsAreCappedAtMaxErrors() throws Exception {
+        doAnswer(invocation -> {
+            throw new DataIntegrityViolationException("database unavailable");
+        }).when(taskService).importTasks(anyList());
+
+        ImportResult result = importer.importTasks(body("""
+                {"title":"a"}
+                {"title":"b"}
+                {"title":"c"}
+                """), 2);
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.errors()).extracting(ImportError::line).containsExactly(1L, 2L);
+    }
+
+    private static ByteArrayInputStream body(String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.taskmanager.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementBudgetTest {
+
+    private static final String SELECT = "select t1_0.id from tasks t1_0 where t1_0.id=?";
+
+    @Test
+    void enforcedBudgetFailsTheStatementOverIt() {
+        StatementBudget budget = new StatementBudget("updateTask", 2, 3, true);
+        budget.onStatement(SELECT);
+        budget.onStatement("update tasks set title=? where id=?");
+
+        assertThatThrownBy(() -> budget.onStatement("insert into task_changes values (?)"))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("over its budget of 2");
+    }
+
+    @Test
+    void enforcedBudgetFailsARepeatedSelect() {
+        StatementBudget budget = new StatementBudget("getTasks", 10, 3, true);
+        budget.onStatement(SELECT);
+        budget.onStatement(SELECT);
+
+        assertThatThrownBy(() -> budget.onStatement(SELECT))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("N+1");
+    }
+
+    @Test
+    void unenforcedBudgetOnlyRecords() {
+        StatementBudget budget = new StatementBudget("getTasks", 1, 2, false);
+        budget.onStatement(SELECT);
+        budget.onStatement(SELECT);
+
+        assertThat(budget.statements()).isEqualTo(2);
+        assertThat(budget.isOverBudget()).isTrue();
+        assertThat(budget.repeatedSelect()).isEqualTo(SELECT);
+    }
+}
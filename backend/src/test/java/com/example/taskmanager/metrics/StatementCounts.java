@@ -0,0 +1,44 @@
+package com.example.taskmanager.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Reads the SQL statements counted for TasksApi requests from the
+ * tasks.request.statements summary StatementBudgetInterceptor records per
+ * operation, so tests can pin the exact count of an operation.
+ */
+public class StatementCounts {
+
+    private final MeterRegistry meterRegistry;
+
+    public StatementCounts(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Statements issued by the requests for the operation that the action performs.
+     *
+     * @throws AssertionError if the action performed no request for the operation
+     */
+    public long during(String operation, Action action) throws Exception {
+        long requestsBefore = summary(operation).count();
+        double statementsBefore = summary(operation).totalAmount();
+        action.run();
+        if (summary(operation).count() == requestsBefore) {
+            throw new AssertionError("No " + operation + " request was counted");
+        }
+        return Math.round(summary(operation).totalAmount() - statementsBefore);
+    }
+
+    private DistributionSummary summary(String operation) {
+        return DistributionSummary.builder("tasks.request.statements")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
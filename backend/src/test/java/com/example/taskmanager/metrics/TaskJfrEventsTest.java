@@ -0,0 +1,123 @@
+package com.example.taskmanager.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Records the API with the shipped jfr/taskmanager.jfc settings and checks
+ * the TaskOperation and TaskStoreCall events read back from the recording.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jfr-events;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "task.archive.enabled=false",
+        "task.escalation.enabled=false",
+        "rate-limit.enabled=false",
+        "response-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+class TaskJfrEventsTest {
+
+    private static final String OPERATION_EVENT = "com.example.taskmanager.TaskOperation";
+    private static final String STORE_EVENT = "com.example.taskmanager.TaskStoreCall";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void apiRequestsEmitOperationAndStoreEvents() throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        long id;
+        try (Recording recording = new Recording(Configuration.create(Path.of("jfr/taskmanager.jfc")))) {
+            recording.start();
+
+            for (int i = 0; i < 2; i++) {
+                mockMvc.perform(post("/api/v1/tasks")
+                                .header("Idempotency-Key", "jfr-create")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"title\":\"Recorded\"}"))
+                        .andExpect(status().isCreated());
+            }
+            id = objectMapper.readTree(mockMvc.perform(get("/api/v1/tasks").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString()).get(0).get("id").asLong();
+            mockMvc.perform(get("/api/v1/tasks/{id}", id)).andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/tasks/{id}", 999_999)).andExpect(status().isNotFound());
+            mockMvc.perform(post("/api/v1/tasks/import")
+                            .contentType("application/x-ndjson")
+                            .content("{\"title\":\"a\"}\n{\"title\":\"b\"}\n"))
+                    .andExpect(status().isOk());
+
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        List<RecordedEvent> creates = operations(events, "createTask");
+        assertThat(creates).hasSize(2);
+        assertThat(creates).allSatisfy(event -> {
+            assertThat(event.getInt("status")).isEqualTo(201);
+            assertThat(event.getLong("rows")).isEqualTo(1);
+            assertThat(event.getString("cache")).isEqualTo("idempotency");
+        });
+        assertThat(creates.get(0).getBoolean("cacheHit")).isFalse();
+        assertThat(creates.get(0).getInt("statements")).isPositive();
+        // The replay is answered from the idempotency store without touching the database
+        assertThat(creates.get(1).getBoolean("cacheHit")).isTrue();
+        assertThat(creates.get(1).getInt("statements")).isZero();
+
+        assertThat(operations(events, "getTasks")).singleElement().satisfies(event -> {
+            assertThat(event.getInt("status")).isEqualTo(200);
+            assertThat(event.getLong("rows")).isEqualTo(1);
+        });
+
+        List<RecordedEvent> lookups = operations(events, "getTaskById");
+        assertThat(lookups).extracting(event -> event.getInt("status")).containsExactly(200, 404);
+        assertThat(lookups).extracting(event -> event.getLong("rows")).containsExactly(1L, 0L);
+        assertThat(lookups).extracting(event -> event.getInt("statements")).containsExactly(1, 2);
+
+        assertThat(operations(events, "importTasks")).singleElement().satisfies(event -> {
+            assertThat(event.getLong("rows")).isEqualTo(2);
+            // Imports have no statement budget
+            assertThat(event.getInt("statements")).isEqualTo(-1);
+        });
+
+        List<RecordedEvent> storeCalls = events.stream()
+                .filter(event -> event.getEventType().getName().equals(STORE_EVENT))
+                .toList();
+        assertThat(storeCalls).allSatisfy(event -> assertThat(event.getString("engine")).isEqualTo("JpaTaskStore"));
+        assertThat(storeCalls).extracting(event -> event.getString("method") + " " + event.getBoolean("found"))
+                .contains("save true", "findTasks true", "readById true", "readById false", "saveAll true");
+    }
+
+    private static List<RecordedEvent> operations(List<RecordedEvent> events, String operation) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(OPERATION_EVENT))
+                .filter(event -> operation.equals(event.getString("operation")))
+                .toList();
+    }
+}
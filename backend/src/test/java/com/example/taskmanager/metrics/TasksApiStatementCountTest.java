@@ -0,0 +1,212 @@
+package com.example.taskmanager.metrics;
+
+import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the SQL statements each TasksApi operation issues on the JPA engine,
+ * so an extra query fails the build instead of only showing up in
+ * tasks.request.statements. Budgets are enforced too, so a repeated SELECT
+ * (N+1) fails the request itself.
+ *
+ * When an operation legitimately needs a different number of statements,
+ * change the count here together with its sql-budget.operations entry.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-counts;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "sql-budget.enforce=true",
+        // Unbounded in production; bounded here so it is counted
+        "sql-budget.operations.importTasks=1000",
+        "task.archive.enabled=false",
+        "task.escalation.enabled=false",
+        "rate-limit.enabled=false",
+        "response-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+class TasksApiStatementCountTest {
+
+    private static final long MISSING_ID = 999_999;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private StatementCounts statements;
+
+    @BeforeEach
+    void setUp() {
+        statements = new StatementCounts(meterRegistry);
+    }
+
+    @Test
+    void getTasksIssuesOneQueryPerTable() throws Exception {
+        createTask(false);
+
+        assertThat(getTasks()).isEqualTo(1);
+        assertThat(getTasks("completed", "false", "sort", "-priority,dueDate")).isEqualTo(1);
+        assertThat(getTasks("fields", "id,title")).isEqualTo(1);
+        assertThat(getTasks("dueFrom", "2024-01-01T00:00:00Z", "dueTo", "2025-01-01T00:00:00Z")).isEqualTo(1);
+        assertThat(getTasks("includeArchived", "true")).isEqualTo(2);
+    }
+
+    @Test
+    void getTasksAddsCountQueriesOnlyForExactCount() throws Exception {
+        createTask(false);
+
+        assertThat(getTasks("exactCount", "true")).isEqualTo(2);
+        assertThat(getTasks("includeArchived", "true", "exactCount", "true")).isEqualTo(4);
+    }
+
+    @Test
+    void getTaskByIdFallsBackToTheArchive() throws Exception {
+        long hot = createTask(false);
+        long archived = createArchivedTask();
+
+        assertThat(statements.during("getTaskById", () -> mockMvc.perform(get("/api/v1/tasks/{id}", hot))
+                .andExpect(status().isOk()))).isEqualTo(1);
+        assertThat(statements.during("getTaskById", () -> mockMvc.perform(get("/api/v1/tasks/{id}", archived))
+                .andExpect(status().isOk()))).isEqualTo(2);
+        assertThat(statements.during("getTaskById", () -> mockMvc.perform(get("/api/v1/tasks/{id}", MISSING_ID))
+                .andExpect(status().isNotFound()))).isEqualTo(2);
+    }
+
+    @Test
+    void batchGetTasksQueriesTheArchiveOnlyForMisses() throws Exception {
+        long first = createTask(false);
+        long second = createTask(false);
+        long archived = createArchivedTask();
+
+        assertThat(statements.during("batchGetTasks", () -> batchGet(first, second))).isEqualTo(1);
+        assertThat(statements.during("batchGetTasks", () -> batchGet(first, archived, MISSING_ID))).isEqualTo(2);
+    }
+
+    @Test
+    void getTaskDueCountsIssuesOneGroupedQueryPerTable() throws Exception {
+        createTask(false);
+
+        assertThat(statements.during("getTaskDueCounts", () -> mockMvc.perform(get("/api/v1/tasks/due-counts")
+                        .param("dueFrom", "2024-01-01").param("dueTo", "2024-12-31"))
+                .andExpect(status().isOk()))).isEqualTo(1);
+        assertThat(statements.during("getTaskDueCounts", () -> mockMvc.perform(get("/api/v1/tasks/due-counts")
+                        .param("dueFrom", "2024-01-01").param("dueTo", "2024-12-31")
+                        .param("includeArchived", "true"))
+                .andExpect(status().isOk()))).isEqualTo(2);
+    }
+
+    @Test
+    void createTaskIssuesOneInsertPlusASequenceFetchPerFiftyIds() throws Exception {
+        // The id sequence hands out blocks of 50, so any 50 creates fetch it exactly once
+        assertThat(statements.during("createTask", () -> {
+            for (int i = 0; i < 50; i++) {
+                createTask(false);
+            }
+        })).isEqualTo(51);
+    }
+
+    @Test
+    void updateTaskRestoresArchivedTasks() throws Exception {
+        long hot = createTask(false);
+        long archived = createArchivedTask();
+
+        // Select and update
+        assertThat(statements.during("updateTask", () -> update(hot).andExpect(status().isOk()))).isEqualTo(2);
+        // Hot miss, restore (insert ... select, delete, select), update
+        assertThat(statements.during("updateTask", () -> update(archived).andExpect(status().isOk()))).isEqualTo(5);
+        assertThat(statements.during("updateTask", () -> update(MISSING_ID).andExpect(status().isNotFound())))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void deleteTaskLooksTheTaskUpFirst() throws Exception {
+        long hot = createTask(false);
+        long archived = createArchivedTask();
+
+        assertThat(statements.during("deleteTask", () -> mockMvc.perform(delete("/api/v1/tasks/{id}", hot))
+                .andExpect(status().isNoContent()))).isEqualTo(2);
+        assertThat(statements.during("deleteTask", () -> mockMvc.perform(delete("/api/v1/tasks/{id}", archived))
+                .andExpect(status().isNoContent()))).isEqualTo(4);
+        assertThat(statements.during("deleteTask", () -> mockMvc.perform(delete("/api/v1/tasks/{id}", MISSING_ID))
+                .andExpect(status().isNotFound()))).isEqualTo(4);
+    }
+
+    @Test
+    void importTasksBatchesInsertsPerChunk() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            body.append("{\"title\":\"Imported ").append(i).append("\"}\n");
+        }
+
+        // One batched insert for the chunk and two sequence fetches for 100 ids
+        assertThat(statements.during("importTasks", () -> mockMvc.perform(post("/api/v1/tasks/import")
+                        .contentType("application/x-ndjson")
+                        .content(body.toString()))
+                .andExpect(status().isOk()))).isEqualTo(3);
+    }
+
+    private long getTasks(String... params) throws Exception {
+        return statements.during("getTasks", () -> {
+            var request = get("/api/v1/tasks");
+            for (int i = 0; i < params.length; i += 2) {
+                request.param(params[i], params[i + 1]);
+            }
+            mockMvc.perform(request).andExpect(status().isOk());
+        });
+    }
+
+    private long createTask(boolean completed) throws Exception {
+        String response = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Counted\",\"completed\":" + completed
+                                + ",\"dueDate\":\"2024-06-01T12:00:00Z\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private long createArchivedTask() throws Exception {
+        long id = createTask(true);
+        assertThat(taskService.archiveCompleted(OffsetDateTime.now().plusMinutes(1), 1000)).isPositive();
+        return id;
+    }
+
+    private ResultActions update(long id) throws Exception {
+        return mockMvc.perform(put("/api/v1/tasks/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Updated\",\"completed\":true}"));
+    }
+
+    private void batchGet(long... ids) throws Exception {
+        mockMvc.perform(post("/api/v1/tasks:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("ids", ids))))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskChangeTrackerTest {
+
+    @Test
+    void listenersRunBeforeTheGenerationMovesOn() {
+        TaskChangeTracker tracker = new TaskChangeTracker();
+        List<Long> seen = new ArrayList<>();
+        tracker.addListener(() -> seen.add(tracker.generation()));
+
+        tracker.markChanged();
+        tracker.markChanged();
+
+        assertThat(seen).containsExactly(0L, 1L);
+        assertThat(tracker.generation()).isEqualTo(2);
+    }
+}
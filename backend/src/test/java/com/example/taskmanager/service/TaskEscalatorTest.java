@@ -0,0 +1,47 @@
+package com.example.taskmanager.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class TaskEscalatorTest {
+
+    @Test
+    void pauseKeepsEachWorkerWithinTheDutyCycle() {
+        TaskEscalator escalator = escalator(0.25, 0);
+        try {
+            // Running a quarter of the time: three times the chunk's duration idle
+            assertThat(escalator.pauseMillis(TimeUnit.MILLISECONDS.toNanos(40))).isEqualTo(120);
+            // Chunks slowed down by load buy proportionally longer pauses
+            assertThat(escalator.pauseMillis(TimeUnit.MILLISECONDS.toNanos(400))).isEqualTo(1200);
+        } finally {
+            escalator.destroy();
+        }
+    }
+
+    @Test
+    void chunkPauseIsAMinimum() {
+        TaskEscalator escalator = escalator(1, 50);
+        try {
+            assertThat(escalator.pauseMillis(TimeUnit.MILLISECONDS.toNanos(400))).isEqualTo(50);
+        } finally {
+            escalator.destroy();
+        }
+    }
+
+    @Test
+    void dutyCycleMustBeAFraction() {
+        assertThatThrownBy(() -> escalator(0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> escalator(1.5, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TaskEscalator escalator(double dutyCycle, long chunkPauseMillis) {
+        return new TaskEscalator(mock(TaskService.class), mock(JobCheckpoints.class), new SimpleMeterRegistry(),
+                24, 72, 10_000, 1, chunkPauseMillis, dutyCycle, 3600);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.entity.TaskEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Updates racing an archiver batch that moves the same task: whichever
+ * transaction takes the row first, the other one waits for it and the update
+ * succeeds, on the hot row or on the task restored from the archive.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive-race;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "task.archive.enabled=false",
+        "task.escalation.enabled=false"
+})
+class TaskServiceArchiveRaceTest {
+
+    private static final long HOLD_MILLIS = 300;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void updateWaitingForAnArchiverBatchUpdatesTheRestoredTask() throws Exception {
+        long id = createCompletedTask();
+        CountDownLatch archived = new CountDownLatch(1);
+
+        CompletableFuture<Void> archiver = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    assertThat(taskService.archiveCompleted(OffsetDateTime.now().plusMinutes(1), 1000))
+                            .isPositive();
+                    archived.countDown();
+                    sleep();
+                }), executor);
+        assertThat(archived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Optional<TaskEntity> updated = taskService.updateTask(id, update());
+        archiver.get(5, TimeUnit.SECONDS);
+
+        assertThat(updated).map(TaskEntity::getTitle).contains("Updated");
+        assertThat(taskService.getTaskById(id)).map(TaskEntity::getTitle).contains("Updated");
+    }
+
+    @Test
+    void archiverBatchWaitsForARunningUpdate() throws Exception {
+        long id = createCompletedTask();
+        CountDownLatch locked = new CountDownLatch(1);
+
+        CompletableFuture<Optional<TaskEntity>> update = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    Optional<TaskEntity> result = taskService.updateTask(id, update());
+                    locked.countDown();
+                    sleep();
+                    return result;
+                }), executor);
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        taskService.archiveCompleted(OffsetDateTime.now().plusMinutes(1), 1000);
+
+        assertThat(update.get(5, TimeUnit.SECONDS)).map(TaskEntity::getTitle).contains("Updated");
+        assertThat(taskService.getTaskById(id)).map(TaskEntity::getTitle).contains("Updated");
+    }
+
+    private long createCompletedTask() {
+        return taskService.createTask(TaskEntity.builder()
+                .title("Racing")
+                .completed(true)
+                .priority(TaskEntity.Priority.LOW)
+                .build()).getId();
+    }
+
+    private static TaskEntity update() {
+        return TaskEntity.builder()
+                .title("Updated")
+                .completed(true)
+                .priority(TaskEntity.Priority.HIGH)
+                .build();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(HOLD_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
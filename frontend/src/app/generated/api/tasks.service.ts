@@ -16,9 +16,17 @@ import { HttpClient, HttpHeaders, HttpParams,
 import { CustomHttpParameterCodec }                          from '../encoder';
 import { Observable }                                        from 'rxjs';
 
+// @ts-ignore
+import { DueDayCount } from '../model/dueDayCount';
+// @ts-ignore
+import { ImportResult } from '../model/importResult';
 // @ts-ignore
 import { Task } from '../model/task';
 // @ts-ignore
+import { TaskBatchGetRequest } from '../model/taskBatchGetRequest';
+// @ts-ignore
+import { TaskBatchGetResult } from '../model/taskBatchGetResult';
+// @ts-ignore
 import { TaskCreate } from '../model/taskCreate';
 // @ts-ignore
 import { TaskUpdate } from '../model/taskUpdate';
@@ -39,23 +47,93 @@ export class TasksService extends BaseService {
         super(basePath, configuration);
     }
 
+    /**
+     * Get several tasks by ID
+     * Retrieves up to 1000 tasks by ID in one request, including archived tasks. The IDs are resolved with a few IN queries rather than one query per task. Tasks are returned in the order of the requested IDs, each once; requested IDs without a task are listed in missingIds. 
+     * @endpoint post /tasks:batchGet
+     * @param taskBatchGetRequest 
+     * @param observe set whether or not to return the data Observable as the body, response or events. defaults to returning the body.
+     * @param reportProgress flag to report request and response progress.
+     */
+    public batchGetTasks(taskBatchGetRequest: TaskBatchGetRequest, observe?: 'body', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<TaskBatchGetResult>;
+    public batchGetTasks(taskBatchGetRequest: TaskBatchGetRequest, observe?: 'response', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpResponse<TaskBatchGetResult>>;
+    public batchGetTasks(taskBatchGetRequest: TaskBatchGetRequest, observe?: 'events', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpEvent<TaskBatchGetResult>>;
+    public batchGetTasks(taskBatchGetRequest: TaskBatchGetRequest, observe: any = 'body', reportProgress: boolean = false, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<any> {
+        if (taskBatchGetRequest === null || taskBatchGetRequest === undefined) {
+            throw new Error('Required parameter taskBatchGetRequest was null or undefined when calling batchGetTasks.');
+        }
+
+        let localVarHeaders = this.defaultHeaders;
+
+        const localVarHttpHeaderAcceptSelected: string | undefined = options?.httpHeaderAccept ?? this.configuration.selectHeaderAccept([
+            'application/json'
+        ]);
+        if (localVarHttpHeaderAcceptSelected !== undefined) {
+            localVarHeaders = localVarHeaders.set('Accept', localVarHttpHeaderAcceptSelected);
+        }
+
+        const localVarHttpContext: HttpContext = options?.context ?? new HttpContext();
+
+        const localVarTransferCache: boolean = options?.transferCache ?? true;
+
+
+        // to determine the Content-Type header
+        const consumes: string[] = [
+            'application/json'
+        ];
+        const httpContentTypeSelected: string | undefined = this.configuration.selectHeaderContentType(consumes);
+        if (httpContentTypeSelected !== undefined) {
+            localVarHeaders = localVarHeaders.set('Content-Type', httpContentTypeSelected);
+        }
+
+        let responseType_: 'text' | 'json' | 'blob' = 'json';
+        if (localVarHttpHeaderAcceptSelected) {
+            if (localVarHttpHeaderAcceptSelected.startsWith('text')) {
+                responseType_ = 'text';
+            } else if (this.configuration.isJsonMime(localVarHttpHeaderAcceptSelected)) {
+                responseType_ = 'json';
+            } else {
+                responseType_ = 'blob';
+            }
+        }
+
+        let localVarPath = `/tasks:batchGet`;
+        const { basePath, withCredentials } = this.configuration;
+        return this.httpClient.request<TaskBatchGetResult>('post', `${basePath}${localVarPath}`,
+            {
+                context: localVarHttpContext,
+                body: taskBatchGetRequest,
+                responseType: <any>responseType_,
+                ...(withCredentials ? { withCredentials } : {}),
+                headers: localVarHeaders,
+                observe: observe,
+                ...(localVarTransferCache !== undefined ? { transferCache: localVarTransferCache } : {}),
+                reportProgress: reportProgress
+            }
+        );
+    }
+
     /**
      * Create a new task
      * Creates a new task with the provided details
      * @endpoint post /tasks
      * @param taskCreate 
+     * @param idempotencyKey Client-generated key (e.g. a UUID) that makes retries safe. A request repeating the key of an earlier one from the same client returns the stored response of the first request instead of creating another task; a request arriving while the first is still in progress waits for it. Keys are remembered for a limited time only. 
      * @param observe set whether or not to return the data Observable as the body, response or events. defaults to returning the body.
      * @param reportProgress flag to report request and response progress.
      */
-    public createTask(taskCreate: TaskCreate, observe?: 'body', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<Task>;
-    public createTask(taskCreate: TaskCreate, observe?: 'response', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpResponse<Task>>;
-    public createTask(taskCreate: TaskCreate, observe?: 'events', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpEvent<Task>>;
-    public createTask(taskCreate: TaskCreate, observe: any = 'body', reportProgress: boolean = false, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<any> {
+    public createTask(taskCreate: TaskCreate, idempotencyKey?: string, observe?: 'body', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<Task>;
+    public createTask(taskCreate: TaskCreate, idempotencyKey?: string, observe?: 'response', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpResponse<Task>>;
+    public createTask(taskCreate: TaskCreate, idempotencyKey?: string, observe?: 'events', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpEvent<Task>>;
+    public createTask(taskCreate: TaskCreate, idempotencyKey?: string, observe: any = 'body', reportProgress: boolean = false, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<any> {
         if (taskCreate === null || taskCreate === undefined) {
             throw new Error('Required parameter taskCreate was null or undefined when calling createTask.');
         }
 
         let localVarHeaders = this.defaultHeaders;
+        if (idempotencyKey !== undefined && idempotencyKey !== null) {
+            localVarHeaders = localVarHeaders.set('Idempotency-Key', String(idempotencyKey));
+        }
 
         const localVarHttpHeaderAcceptSelected: string | undefined = options?.httpHeaderAccept ?? this.configuration.selectHeaderAccept([
             'application/json'
@@ -217,27 +295,125 @@ export class TasksService extends BaseService {
         );
     }
 
+    /**
+     * Count tasks per due day
+     * Number of tasks due on each day of a date range, for calendar views. Days are calendar days in the given time zone; days without tasks are left out. The counts come from one aggregated query. 
+     * @endpoint get /tasks/due-counts
+     * @param dueFrom First day of the range
+     * @param dueTo Day after the last day of the range (exclusive); at most 366 days after dueFrom
+     * @param timeZone IANA time zone the days are counted in
+     * @param completed Filter by completion status
+     * @param includeArchived Also count completed tasks that have been moved to the archive
+     * @param observe set whether or not to return the data Observable as the body, response or events. defaults to returning the body.
+     * @param reportProgress flag to report request and response progress.
+     */
+    public getTaskDueCounts(dueFrom: string, dueTo: string, timeZone?: string, completed?: boolean, includeArchived?: boolean, observe?: 'body', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<Array<DueDayCount>>;
+    public getTaskDueCounts(dueFrom: string, dueTo: string, timeZone?: string, completed?: boolean, includeArchived?: boolean, observe?: 'response', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpResponse<Array<DueDayCount>>>;
+    public getTaskDueCounts(dueFrom: string, dueTo: string, timeZone?: string, completed?: boolean, includeArchived?: boolean, observe?: 'events', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpEvent<Array<DueDayCount>>>;
+    public getTaskDueCounts(dueFrom: string, dueTo: string, timeZone?: string, completed?: boolean, includeArchived?: boolean, observe: any = 'body', reportProgress: boolean = false, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<any> {
+        if (dueFrom === null || dueFrom === undefined) {
+            throw new Error('Required parameter dueFrom was null or undefined when calling getTaskDueCounts.');
+        }
+        if (dueTo === null || dueTo === undefined) {
+            throw new Error('Required parameter dueTo was null or undefined when calling getTaskDueCounts.');
+        }
+
+        let localVarQueryParameters = new HttpParams({encoder: this.encoder});
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>dueFrom, 'dueFrom');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>dueTo, 'dueTo');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>timeZone, 'timeZone');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>completed, 'completed');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>includeArchived, 'includeArchived');
+
+        let localVarHeaders = this.defaultHeaders;
+
+        const localVarHttpHeaderAcceptSelected: string | undefined = options?.httpHeaderAccept ?? this.configuration.selectHeaderAccept([
+            'application/json'
+        ]);
+        if (localVarHttpHeaderAcceptSelected !== undefined) {
+            localVarHeaders = localVarHeaders.set('Accept', localVarHttpHeaderAcceptSelected);
+        }
+
+        const localVarHttpContext: HttpContext = options?.context ?? new HttpContext();
+
+        const localVarTransferCache: boolean = options?.transferCache ?? true;
+
+
+        let responseType_: 'text' | 'json' | 'blob' = 'json';
+        if (localVarHttpHeaderAcceptSelected) {
+            if (localVarHttpHeaderAcceptSelected.startsWith('text')) {
+                responseType_ = 'text';
+            } else if (this.configuration.isJsonMime(localVarHttpHeaderAcceptSelected)) {
+                responseType_ = 'json';
+            } else {
+                responseType_ = 'blob';
+            }
+        }
+
+        let localVarPath = `/tasks/due-counts`;
+        const { basePath, withCredentials } = this.configuration;
+        return this.httpClient.request<Array<DueDayCount>>('get', `${basePath}${localVarPath}`,
+            {
+                context: localVarHttpContext,
+                params: localVarQueryParameters,
+                responseType: <any>responseType_,
+                ...(withCredentials ? { withCredentials } : {}),
+                headers: localVarHeaders,
+                observe: observe,
+                ...(localVarTransferCache !== undefined ? { transferCache: localVarTransferCache } : {}),
+                reportProgress: reportProgress
+            }
+        );
+    }
+
     /**
      * Get all tasks
      * Retrieves a list of all tasks with optional filtering
      * @endpoint get /tasks
      * @param completed Filter by completion status
      * @param limit Maximum number of tasks to return
+     * @param sort Sort order: comma-separated keys, applied in order, with \&#39;-\&#39; for descending. Each supported order is backed by an index, so sorted pages never sort the table: priority,-dueDate,createdAt (priority LOW &lt; MEDIUM &lt; HIGH), -priority,dueDate (most urgent first), dueDate and -updatedAt (recently changed first). Missing values sort lowest (first ascending, last descending). Ties are broken by id. Without sort, tasks are returned by id. 
+     * @param includeArchived Also return completed tasks that have been moved to the archive. Archived tasks are always returned by GET /tasks/{id} and can still be updated or deleted. 
+     * @param dueFrom Only tasks due at or after this time; tasks without a due date are excluded
+     * @param dueTo Only tasks due before this time (exclusive); tasks without a due date are excluded
+     * @param fields Comma-separated Task properties to return, e.g. for list views that don\&#39;t show the description or timestamps; id is always returned. Only the selected columns are read from the database. All properties are returned if omitted. 
+     * @param exactCount Compute X-Total-Count with a COUNT query instead of taking it from the server\&#39;s cached counts, which are kept up to date on writes but may briefly lag behind them. Lists filtered by due date only carry X-Total-Count when this is set. 
+     * @param ifNoneMatch ETag of a previously returned list; answered with 304 if no task has changed since
      * @param observe set whether or not to return the data Observable as the body, response or events. defaults to returning the body.
      * @param reportProgress flag to report request and response progress.
      */
-    public getTasks(completed?: boolean, limit?: number, observe?: 'body', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<Array<Task>>;
-    public getTasks(completed?: boolean, limit?: number, observe?: 'response', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpResponse<Array<Task>>>;
-    public getTasks(completed?: boolean, limit?: number, observe?: 'events', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpEvent<Array<Task>>>;
-    public getTasks(completed?: boolean, limit?: number, observe: any = 'body', reportProgress: boolean = false, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<any> {
+    public getTasks(completed?: boolean, limit?: number, sort?: string, includeArchived?: boolean, dueFrom?: string, dueTo?: string, fields?: string, exactCount?: boolean, ifNoneMatch?: string, observe?: 'body', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<Array<Task>>;
+    public getTasks(completed?: boolean, limit?: number, sort?: string, includeArchived?: boolean, dueFrom?: string, dueTo?: string, fields?: string, exactCount?: boolean, ifNoneMatch?: string, observe?: 'response', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpResponse<Array<Task>>>;
+    public getTasks(completed?: boolean, limit?: number, sort?: string, includeArchived?: boolean, dueFrom?: string, dueTo?: string, fields?: string, exactCount?: boolean, ifNoneMatch?: string, observe?: 'events', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpEvent<Array<Task>>>;
+    public getTasks(completed?: boolean, limit?: number, sort?: string, includeArchived?: boolean, dueFrom?: string, dueTo?: string, fields?: string, exactCount?: boolean, ifNoneMatch?: string, observe: any = 'body', reportProgress: boolean = false, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<any> {
 
         let localVarQueryParameters = new HttpParams({encoder: this.encoder});
         localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
           <any>completed, 'completed');
         localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
           <any>limit, 'limit');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>sort, 'sort');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>includeArchived, 'includeArchived');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>dueFrom, 'dueFrom');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>dueTo, 'dueTo');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>fields, 'fields');
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>exactCount, 'exactCount');
 
         let localVarHeaders = this.defaultHeaders;
+        if (ifNoneMatch !== undefined && ifNoneMatch !== null) {
+            localVarHeaders = localVarHeaders.set('If-None-Match', String(ifNoneMatch));
+        }
 
         const localVarHttpHeaderAcceptSelected: string | undefined = options?.httpHeaderAccept ?? this.configuration.selectHeaderAccept([
             'application/json'
@@ -278,6 +454,78 @@ export class TasksService extends BaseService {
         );
     }
 
+    /**
+     * Bulk import tasks
+     * Imports tasks from a newline-delimited JSON body (one TaskCreate object per line). The body is read incrementally; each line is validated on its own, and valid rows are committed in fixed-size batches while the rest of the body is still being read, so batches committed before a failure or an interrupted upload stay committed. Invalid lines are skipped and reported by line number. A batch the database rejects is rolled back on its own and its lines are reported the same way; the import continues with the next batch. 
+     * @endpoint post /tasks/import
+     * @param body 
+     * @param maxErrors Maximum number of line errors listed in the report; further errors are only counted
+     * @param observe set whether or not to return the data Observable as the body, response or events. defaults to returning the body.
+     * @param reportProgress flag to report request and response progress.
+     */
+    public importTasks(body: Blob, maxErrors?: number, observe?: 'body', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<ImportResult>;
+    public importTasks(body: Blob, maxErrors?: number, observe?: 'response', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpResponse<ImportResult>>;
+    public importTasks(body: Blob, maxErrors?: number, observe?: 'events', reportProgress?: boolean, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<HttpEvent<ImportResult>>;
+    public importTasks(body: Blob, maxErrors?: number, observe: any = 'body', reportProgress: boolean = false, options?: {httpHeaderAccept?: 'application/json', context?: HttpContext, transferCache?: boolean}): Observable<any> {
+        if (body === null || body === undefined) {
+            throw new Error('Required parameter body was null or undefined when calling importTasks.');
+        }
+
+        let localVarQueryParameters = new HttpParams({encoder: this.encoder});
+        localVarQueryParameters = this.addToHttpParams(localVarQueryParameters,
+          <any>maxErrors, 'maxErrors');
+
+        let localVarHeaders = this.defaultHeaders;
+
+        const localVarHttpHeaderAcceptSelected: string | undefined = options?.httpHeaderAccept ?? this.configuration.selectHeaderAccept([
+            'application/json'
+        ]);
+        if (localVarHttpHeaderAcceptSelected !== undefined) {
+            localVarHeaders = localVarHeaders.set('Accept', localVarHttpHeaderAcceptSelected);
+        }
+
+        const localVarHttpContext: HttpContext = options?.context ?? new HttpContext();
+
+        const localVarTransferCache: boolean = options?.transferCache ?? true;
+
+
+        // to determine the Content-Type header
+        const consumes: string[] = [
+            'application/x-ndjson'
+        ];
+        const httpContentTypeSelected: string | undefined = this.configuration.selectHeaderContentType(consumes);
+        if (httpContentTypeSelected !== undefined) {
+            localVarHeaders = localVarHeaders.set('Content-Type', httpContentTypeSelected);
+        }
+
+        let responseType_: 'text' | 'json' | 'blob' = 'json';
+        if (localVarHttpHeaderAcceptSelected) {
+            if (localVarHttpHeaderAcceptSelected.startsWith('text')) {
+                responseType_ = 'text';
+            } else if (this.configuration.isJsonMime(localVarHttpHeaderAcceptSelected)) {
+                responseType_ = 'json';
+            } else {
+                responseType_ = 'blob';
+            }
+        }
+
+        let localVarPath = `/tasks/import`;
+        const { basePath, withCredentials } = this.configuration;
+        return this.httpClient.request<ImportResult>('post', `${basePath}${localVarPath}`,
+            {
+                context: localVarHttpContext,
+                body: body,
+                params: localVarQueryParameters,
+                responseType: <any>responseType_,
+                ...(withCredentials ? { withCredentials } : {}),
+                headers: localVarHeaders,
+                observe: observe,
+                ...(localVarTransferCache !== undefined ? { transferCache: localVarTransferCache } : {}),
+                reportProgress: reportProgress
+            }
+        );
+    }
+
     /**
      * Update an existing task
      * Updates all fields of an existing task
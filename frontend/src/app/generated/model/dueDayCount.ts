@@ -0,0 +1,22 @@
+/**
+ * Task Manager API
+ *
+ * Contact: support@taskmanager.com
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+export interface DueDayCount { 
+    /**
+     * Calendar day in the requested time zone
+     */
+    date: string;
+    /**
+     * Tasks due on that day
+     */
+    count: number;
+}
+
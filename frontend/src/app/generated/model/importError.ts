@@ -0,0 +1,22 @@
+/**
+ * Task Manager API
+ *
+ * Contact: support@taskmanager.com
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+export interface ImportError { 
+    /**
+     * 1-based line number in the request body
+     */
+    line: number;
+    /**
+     * Why the line was skipped
+     */
+    message: string;
+}
+
@@ -0,0 +1,35 @@
+/**
+ * Task Manager API
+ *
+ * Contact: support@taskmanager.com
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+import { ImportError } from './importError';
+
+
+export interface ImportResult { 
+    /**
+     * Non-blank lines read from the body
+     */
+    lines: number;
+    /**
+     * Tasks created
+     */
+    imported: number;
+    /**
+     * Lines skipped because they were not valid tasks or their batch failed to commit
+     */
+    failed: number;
+    /**
+     * Time spent on the import
+     */
+    durationMillis: number;
+    /**
+     * Skipped lines, up to maxErrors entries
+     */
+    errors: Array<ImportError>;
+}
+
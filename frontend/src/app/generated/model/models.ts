@@ -1,4 +1,9 @@
+export * from './dueDayCount';
+export * from './importError';
+export * from './importResult';
 export * from './modelError';
 export * from './task';
+export * from './taskBatchGetRequest';
+export * from './taskBatchGetResult';
 export * from './taskCreate';
 export * from './taskUpdate';
@@ -0,0 +1,18 @@
+/**
+ * Task Manager API
+ *
+ * Contact: support@taskmanager.com
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+export interface TaskBatchGetRequest { 
+    /**
+     * IDs of the tasks to return; duplicates are ignored
+     */
+    ids: Array<number>;
+}
+
@@ -0,0 +1,23 @@
+/**
+ * Task Manager API
+ *
+ * Contact: support@taskmanager.com
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+import { Task } from './task';
+
+
+export interface TaskBatchGetResult { 
+    /**
+     * Tasks found, in the order of the requested IDs
+     */
+    tasks: Array<Task>;
+    /**
+     * Requested IDs without a task, in request order
+     */
+    missingIds: Array<number>;
+}
+
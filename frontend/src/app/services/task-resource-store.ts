@@ -1,44 +1,108 @@
 import { Injectable, signal, effect } from '@angular/core';
-import { lastValueFrom } from 'rxjs';
-import { Task, TasksService, TaskCreate, TaskUpdate } from '../generated';
+import { HttpErrorResponse } from '@angular/common/http';
+import { lastValueFrom, retry, throwError, timer } from 'rxjs';
+import { Task, TasksService, TaskBatchGetResult, TaskCreate, TaskUpdate } from '../generated';
+
+interface TaskFilter {
+  completed?: boolean;
+  limit?: number;
+}
+
+// Page size the API uses when the request has no limit (api/task-api.yaml)
+const DEFAULT_LIMIT = 20;
+
+interface CachedList {
+  etag: string | null;
+  tasks: Task[];
+  totalCount: number | null;
+}
 
 /**
  * Task Resource Store using Angular 20+ signals
  *
  * This service wraps the generated API client with reactive state management.
  * It demonstrates the modern API-first approach with Angular signals.
+ *
+ * Lists are cached per filter together with their ETag. Switching to a cached
+ * filter shows the cached list at once and revalidates it with If-None-Match,
+ * so an unchanged list costs a 304 without a body. Mutations are applied to
+ * the tasks signal directly instead of reloading: updates and deletes
+ * optimistically before the request (rolled back if it fails), creates once
+ * the server has assigned the id.
+ *
+ * totalCount holds the number of tasks matching the filter beyond the limit,
+ * from the X-Total-Count header, for paging controls.
  */
 @Injectable({ providedIn: 'root' })
 export class TaskResourceStore {
   constructor(private taskService: TasksService) {
     // Auto-load tasks when filter changes
     effect(() => {
-      const filter = this.filterSignal();
-      this.loadTasks(filter.completed, filter.limit);
+      this.loadTasks(this.filterSignal());
     });
   }
 
   // State signals
   tasks = signal<Task[]>([]);
+  totalCount = signal<number | null>(null);
   isLoading = signal(false);
   error = signal<any>(null);
 
   // Filter state
-  private filterSignal = signal<{ completed?: boolean; limit?: number }>({});
+  private filterSignal = signal<TaskFilter>({});
+
+  private listCache = new Map<string, CachedList>();
+  private loadSequence = 0;
 
   /**
-   * Load tasks from API
+   * Load tasks from API, revalidating the cached list for the filter if there is one
    */
-  private async loadTasks(completed?: boolean, limit?: number) {
-    this.isLoading.set(true);
+  private async loadTasks(filter: TaskFilter) {
+    const key = this.cacheKey(filter);
+    const cached = this.listCache.get(key);
+    const sequence = ++this.loadSequence;
+
+    if (cached) {
+      this.tasks.set(cached.tasks);
+      this.totalCount.set(cached.totalCount);
+    }
+    this.isLoading.set(!cached);
     this.error.set(null);
     try {
-      const tasks = await lastValueFrom(this.taskService.getTasks(completed, limit));
-      this.tasks.set(tasks);
+      const response = await lastValueFrom(
+        this.taskService.getTasks(
+          filter.completed,
+          filter.limit,
+          undefined,
+          undefined,
+          undefined,
+          undefined,
+          undefined,
+          undefined,
+          cached?.etag ?? undefined,
+          'response'
+        )
+      );
+      const tasks = response.body ?? [];
+      const total = response.headers.get('X-Total-Count');
+      const totalCount = total != null ? Number(total) : null;
+      this.listCache.set(key, { etag: response.headers.get('ETag'), tasks, totalCount });
+      if (sequence === this.loadSequence) {
+        this.tasks.set(tasks);
+        this.totalCount.set(totalCount);
+      }
     } catch (err) {
-      this.error.set(err);
+      // HttpClient reports 304 as an error; it means the cached list is current
+      if (err instanceof HttpErrorResponse && err.status === 304 && cached) {
+        return;
+      }
+      if (sequence === this.loadSequence) {
+        this.error.set(err);
+      }
     } finally {
-      this.isLoading.set(false);
+      if (sequence === this.loadSequence) {
+        this.isLoading.set(false);
+      }
     }
   }
 
@@ -53,16 +117,41 @@ export class TaskResourceStore {
    * Manually reload tasks
    */
   reload() {
-    const filter = this.filterSignal();
-    this.loadTasks(filter.completed, filter.limit);
+    this.loadTasks(this.filterSignal());
+  }
+
+  /**
+   * Fetch specific tasks (e.g. a saved list) in one request, in the order
+   * given; IDs without a task are reported in missingIds
+   */
+  getTasksByIds(ids: number[]): Promise<TaskBatchGetResult> {
+    return lastValueFrom(this.taskService.batchGetTasks({ ids }));
   }
 
   /**
    * Create a new task
+   *
+   * Network failures are retried with the same Idempotency-Key, so a retry
+   * whose original request did reach the server doesn't create a duplicate.
    */
   async createTask(taskCreate: TaskCreate): Promise<Task> {
-    const task = await lastValueFrom(this.taskService.createTask(taskCreate));
-    this.reload(); // Refresh the list
+    const idempotencyKey = crypto.randomUUID();
+    const task = await lastValueFrom(
+      this.taskService.createTask(taskCreate, idempotencyKey).pipe(
+        retry({
+          count: 2,
+          delay: (err) => (err?.status === 0 ? timer(500) : throwError(() => err)),
+        })
+      )
+    );
+    const filter = this.filterSignal();
+    if (this.matchesFilter(task, filter)) {
+      this.adjustTotalCount(1);
+      // New tasks have the highest id, so they go last in the default order
+      if (this.tasks().length < (filter.limit ?? DEFAULT_LIMIT)) {
+        this.setTasks([...this.tasks(), task]);
+      }
+    }
     return task;
   }
 
@@ -70,16 +159,81 @@ export class TaskResourceStore {
    * Update an existing task
    */
   async updateTask(id: number, taskUpdate: TaskUpdate): Promise<Task> {
-    const task = await lastValueFrom(this.taskService.updateTask(id, taskUpdate));
-    this.reload(); // Refresh the list
-    return task;
+    const previous = this.tasks();
+    this.setTasks(this.replaceTask(previous, { ...this.findTask(previous, id), ...taskUpdate, id } as Task));
+    try {
+      const task = await lastValueFrom(this.taskService.updateTask(id, taskUpdate));
+      this.setTasks(this.replaceTask(this.tasks(), task));
+      return task;
+    } catch (err) {
+      this.setTasks(previous);
+      throw err;
+    }
   }
 
   /**
    * Delete a task
    */
   async deleteTask(id: number): Promise<void> {
-    await lastValueFrom(this.taskService.deleteTask(id));
-    this.reload(); // Refresh the list
+    const previous = this.tasks();
+    const removed = previous.some((task) => task.id === id);
+    this.setTasks(previous.filter((task) => task.id !== id));
+    try {
+      await lastValueFrom(this.taskService.deleteTask(id));
+      if (removed) {
+        this.adjustTotalCount(-1);
+      }
+    } catch (err) {
+      this.setTasks(previous);
+      throw err;
+    }
+  }
+
+  /**
+   * Set the visible list and keep the cached copy in step; the cached ETag
+   * is now outdated, so the next revalidation fetches the server's version.
+   */
+  private setTasks(tasks: Task[]) {
+    this.tasks.set(tasks);
+    const key = this.cacheKey(this.filterSignal());
+    const cached = this.listCache.get(key);
+    if (cached) {
+      this.listCache.set(key, { ...cached, tasks });
+    }
+  }
+
+  private adjustTotalCount(delta: number) {
+    const totalCount = this.totalCount();
+    if (totalCount == null) {
+      return;
+    }
+    this.totalCount.set(totalCount + delta);
+    const key = this.cacheKey(this.filterSignal());
+    const cached = this.listCache.get(key);
+    if (cached) {
+      this.listCache.set(key, { ...cached, totalCount: totalCount + delta });
+    }
+  }
+
+  /**
+   * Replace a task in place, dropping it if it no longer matches the filter
+   */
+  private replaceTask(tasks: Task[], updated: Task): Task[] {
+    const filter = this.filterSignal();
+    return tasks
+      .map((task) => (task.id === updated.id ? updated : task))
+      .filter((task) => task.id !== updated.id || this.matchesFilter(updated, filter));
+  }
+
+  private findTask(tasks: Task[], id: number): Task | undefined {
+    return tasks.find((task) => task.id === id);
+  }
+
+  private matchesFilter(task: Task, filter: TaskFilter): boolean {
+    return filter.completed == null || task.completed === filter.completed;
+  }
+
+  private cacheKey(filter: TaskFilter): string {
+    return `${filter.completed ?? ''}|${filter.limit ?? ''}`;
   }
 }